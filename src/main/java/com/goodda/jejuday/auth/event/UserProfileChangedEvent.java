@@ -0,0 +1,7 @@
+package com.goodda.jejuday.auth.event;
+
+/**
+ * 닉네임/프로필 이미지가 바뀐 경우 발행. 작성자 프로필 캐시 무효화용.
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
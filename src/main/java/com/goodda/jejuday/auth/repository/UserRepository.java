@@ -1,6 +1,7 @@
 package com.goodda.jejuday.auth.repository;
 
 import com.goodda.jejuday.auth.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -22,6 +23,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("select u from User u left join fetch u.userThemes where u.id = :id")
     Optional<User> findByIdWithThemes(@Param("id") Long id);
 
+    // 작성자 표시용 프로필 일괄 조회 - [id, nickname, profile]
+    @Query("select u.id, u.nickname, u.profile from User u where u.id in :ids")
+    List<Object[]> findProfilesByIdIn(@Param("ids") Collection<Long> ids);
+
     Optional<User> findByNickname(String nickname);
 
     boolean existsByNickname(String nickname);
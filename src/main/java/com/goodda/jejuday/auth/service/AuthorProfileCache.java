@@ -0,0 +1,106 @@
+package com.goodda.jejuday.auth.service;
+
+import com.goodda.jejuday.auth.event.UserProfileChangedEvent;
+import com.goodda.jejuday.auth.repository.UserRepository;
+import com.goodda.jejuday.common.cache.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 댓글/게시글 작성자 표시용 프로필(닉네임, 프로필 이미지) 캐시.
+ * 한 페이지의 작성자를 모아서 캐시에 없는 사용자만 IN 쿼리 한 번으로 채운다.
+ * 닉네임/프로필 이미지 변경 시 커밋 후 로컬 항목을 지우고 pub/sub 로 다른 인스턴스에도 알린다.
+ * 무효화 전에 DB 를 읽은 조회가 무효화 뒤에 낡은 프로필을 넣지 못하도록 무효화 세대를 확인한다.
+ */
+@Slf4j
+@Service
+public class AuthorProfileCache {
+
+    private static final String INVALIDATE_CHANNEL = "user:profile:invalidate";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LruCache<Long, AuthorProfile> local;
+    // 무효화 세대 (이 인스턴스에 무효화가 들어올 때마다 증가)
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    public AuthorProfileCache(UserRepository userRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${user.profile-cache.max-size:50000}") int maxSize,
+                              @Value("${user.profile-cache.ttl:10m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.local = new LruCache<>(maxSize, ttl.toMillis());
+    }
+
+    public record AuthorProfile(Long userId, String nickname, String profileImageUrl) {}
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String id = new String(message.getBody()).trim();
+            if (!id.isBlank()) evictLocal(Long.valueOf(id));
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /** 단건 (없는 사용자면 null) */
+    public AuthorProfile get(Long userId) {
+        return userId == null ? null : getAll(List.of(userId)).get(userId);
+    }
+
+    /** 여러 사용자 프로필. 캐시에 없는 사용자만 DB 에서 한 번에 조회 */
+    public Map<Long, AuthorProfile> getAll(Collection<Long> userIds) {
+        Map<Long, AuthorProfile> result = new HashMap<>(userIds.size() * 2);
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(userIds)) {
+            if (id == null) continue;
+            AuthorProfile cached = local.get(id);
+            if (cached != null) result.put(id, cached);
+            else misses.add(id);
+        }
+        if (misses.isEmpty()) return result;
+
+        long epoch = invalidationEpoch.get();
+        for (Object[] row : userRepository.findProfilesByIdIn(misses)) {
+            AuthorProfile profile = new AuthorProfile((Long) row[0], (String) row[1], (String) row[2]);
+            local.put(profile.userId(), profile);
+            result.put(profile.userId(), profile);
+        }
+        // 읽는 사이 무효화가 끼었으면 읽은 값이 낡았을 수 있으므로 버림 (무효화 쪽 제거와 순서가 엇갈려도 남지 않도록 넣은 뒤 확인)
+        if (invalidationEpoch.get() != epoch) misses.forEach(local::remove);
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        evictLocal(event.userId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(event.userId()));
+        } catch (Exception e) {
+            log.warn("작성자 프로필 캐시 무효화 전파 실패: userId={}, {}", event.userId(), e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        invalidationEpoch.incrementAndGet();
+        local.remove(userId);
+    }
+}
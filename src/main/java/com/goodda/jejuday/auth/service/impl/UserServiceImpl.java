@@ -11,6 +11,7 @@ import com.goodda.jejuday.auth.entity.Platform;
 import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.entity.UserTheme;
 import com.goodda.jejuday.auth.entity.VerificationType;
+import com.goodda.jejuday.auth.event.UserProfileChangedEvent;
 import com.goodda.jejuday.auth.repository.UserRepository;
 import com.goodda.jejuday.auth.repository.UserThemeRepository;
 import com.goodda.jejuday.auth.security.JwtService;
@@ -23,6 +24,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -53,6 +55,7 @@ public class UserServiceImpl implements UserService {
     private final EmailVerificationService emailVerificationService;
     private final UserThemeRepository userThemeRepository;
     private final ReferralService referralService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final SecureRandom random = new SecureRandom();
 
@@ -267,6 +270,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new BadRequestException("사용자를 찾을 수 없습니다."));
         user.setProfile(newProfileUrl);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Override
@@ -311,6 +315,7 @@ public class UserServiceImpl implements UserService {
 
         user.setNickname(newNickname);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.goodda.jejuday.auth.util;
 
 import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.repository.UserRepository;
+import com.goodda.jejuday.auth.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,4 +22,13 @@ public class SecurityUtil {
         }
         throw new IllegalArgumentException("User is not authenticated");
     }
+
+    // 인증 토큰의 사용자 id 만 필요할 때 (DB 조회 없음). 비로그인이면 null
+    public Long getAuthenticatedUserIdOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails cud) {
+            return cud.getUserId();
+        }
+        return null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.goodda.jejuday.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 + 쓰기 후 만료(TTL) LRU 캐시.
+ * 접근 순서 LinkedHashMap 기반이며 모든 연산은 동기화된다.
+ */
+public class LruCache<K, V> {
+
+    private final long ttlMillis;
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    public LruCache(int maxSize, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** 없거나 만료됐으면 null */
+    public synchronized V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        if (e.expiresAt() < System.currentTimeMillis()) {
+            map.remove(key);
+            return null;
+        }
+        return e.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void remove(K key) {
+        map.remove(key);
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -7,21 +7,24 @@ import static com.goodda.jejuday.notification.util.NotificationConstants.RANKING
 import static com.goodda.jejuday.notification.util.NotificationConstants.SPOT_TO_CHALLENGE_PERCENTAGE;
 
 import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
 import com.goodda.jejuday.spot.repository.LikeRepository;
 import com.goodda.jejuday.spot.repository.ReplyRepository;
 import com.goodda.jejuday.spot.repository.SpotRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,6 +38,7 @@ public class SpotPromotionService {
     private final RedisTemplate<String, String> redisTemplate;
     private final SpotScoreCalculator scoreCalculator;
     private final SpotPromotionNotifier promotionNotifier;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 0 18 * * *") // 매 6시간마다 실행
     @Transactional
@@ -71,6 +75,9 @@ public class SpotPromotionService {
     }
 
     private void processPromotions(List<Spot> spots, Map<Long, Double> scoreMap) {
+        // 챌린지 승격 대상은 작업 시작 시점의 SPOT 기준으로 한 번만 선정
+        Set<Long> challengeIds = selectChallengeCandidates(spots, scoreMap);
+
         for (Spot spot : spots) {
             if (isPromotionAlreadyExecuted(spot.getId())) {
                 continue;
@@ -78,7 +85,7 @@ public class SpotPromotionService {
 
             Double score = scoreMap.get(spot.getId());
             if (score != null) {
-                evaluateAndPromote(spot, score, spots);
+                evaluateAndPromote(spot, score, challengeIds);
             }
         }
     }
@@ -88,12 +95,12 @@ public class SpotPromotionService {
         return Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey));
     }
 
-    private void evaluateAndPromote(Spot spot, double score, List<Spot> allSpots) {
+    private void evaluateAndPromote(Spot spot, double score, Set<Long> challengeIds) {
         Spot.SpotType currentType = spot.getType();
 
         if (currentType == Spot.SpotType.POST && shouldPromoteToSpot(score)) {
             promoteToSpot(spot);
-        } else if (currentType == Spot.SpotType.SPOT && shouldPromoteToChallenge(spot, allSpots)) {
+        } else if (currentType == Spot.SpotType.SPOT && challengeIds.contains(spot.getId())) {
             promoteToChallenge(spot);
         }
     }
@@ -102,33 +109,55 @@ public class SpotPromotionService {
         return score >= POST_TO_SPOT_THRESHOLD;
     }
 
-    private boolean shouldPromoteToChallenge(Spot spot, List<Spot> allSpots) {
-        List<Spot> spotTypeSpots = allSpots.stream()
+    /**
+     * SPOT 중 점수 상위 topCount 개의 id.
+     * 점수 벡터를 한 번 만들고 크기 topCount 의 최소 힙으로 한 번 순회한다 (O(n log k)).
+     * 동점이면 목록에서 앞선 스팟이 우선 (기존 안정 정렬과 같은 결과).
+     */
+    private Set<Long> selectChallengeCandidates(List<Spot> spots, Map<Long, Double> scoreMap) {
+        List<Spot> spotTypeSpots = spots.stream()
                 .filter(s -> s.getType() == Spot.SpotType.SPOT)
-                .collect(Collectors.toList());
+                .toList();
 
         if (spotTypeSpots.isEmpty()) {
-            return false;
+            return Set.of();
         }
 
         int topCount = Math.max(1, (int) Math.ceil(spotTypeSpots.size() * SPOT_TO_CHALLENGE_PERCENTAGE));
         topCount = Math.min(topCount, 2);
 
-        // 현재 스팟이 상위 30%에 포함되는지 확인
-        List<Spot> topSpots = spotTypeSpots.stream()
-                .sorted((s1, s2) -> Double.compare(
-                        scoreCalculator.calculateScore(s2),
-                        scoreCalculator.calculateScore(s1)
-                ))
-                .limit(topCount)
-                .collect(Collectors.toList());
+        double[] scores = new double[spotTypeSpots.size()];
+        for (int i = 0; i < scores.length; i++) {
+            Spot s = spotTypeSpots.get(i);
+            Double score = scoreMap.get(s.getId());
+            scores[i] = score != null ? score : scoreCalculator.calculateScore(s);
+        }
 
-        return topSpots.contains(spot);
+        // 루트 = 현재 상위 집합에서 가장 약한 스팟 (낮은 점수, 동점이면 뒤쪽)
+        PriorityQueue<Integer> heap = new PriorityQueue<>(topCount, (a, b) -> {
+            int c = Double.compare(scores[a], scores[b]);
+            return c != 0 ? c : Integer.compare(b, a);
+        });
+        for (int i = 0; i < scores.length; i++) {
+            if (heap.size() < topCount) {
+                heap.add(i);
+            } else if (Double.compare(scores[i], scores[heap.peek()]) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        Set<Long> ids = new HashSet<>();
+        for (int i : heap) {
+            ids.add(spotTypeSpots.get(i).getId());
+        }
+        return ids;
     }
 
     private void promoteToSpot(Spot spot) {
         spot.setType(Spot.SpotType.SPOT);
         spotRepository.save(spot);
+        eventPublisher.publishEvent(SpotChangedEvent.promoted(spot));
 
         promotionNotifier.sendSpotPromotionNotification(spot);
         cachePromotionExecution(spot.getId());
@@ -139,6 +168,7 @@ public class SpotPromotionService {
     private void promoteToChallenge(Spot spot) {
         spot.setType(Spot.SpotType.CHALLENGE);
         spotRepository.save(spot);
+        eventPublisher.publishEvent(SpotChangedEvent.promoted(spot));
 
         promotionNotifier.sendChallengePromotionNotification(spot);
         cachePromotionExecution(spot.getId());
@@ -11,15 +11,18 @@ import static com.goodda.jejuday.notification.util.NotificationConstants.VIEW_WE
 import com.goodda.jejuday.spot.entity.Like;
 import com.goodda.jejuday.spot.entity.Spot;
 import com.goodda.jejuday.spot.repository.LikeRepository;
-import com.goodda.jejuday.spot.repository.ReplyRepository;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -27,8 +30,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SpotScoreCalculator {
 
+    private static final String LIKES_CACHE_KEY = "spot:individual:likes:";
+    private static final Duration LIKES_CACHE_TTL = Duration.ofMinutes(10);
+    private static final int BATCH_CHUNK = 1000; // MGET / IN 목록 / 파이프라인 한 번의 크기
+
     private final LikeRepository likeRepository;
-    private final ReplyRepository replyRepository;
     private final RedisTemplate<String, String> redisTemplate;
 
     public double calculateScore(Spot spot) {
@@ -45,7 +51,7 @@ public class SpotScoreCalculator {
         }
 
         // 개별 게시글 기준으로 점수 계산
-        double score = computeIndividualSpotScore(spot);
+        double score = computeIndividualSpotScore(spot, getIndividualLikeCount(spot.getId()));
 
         // 캐시에 저장
         redisTemplate.opsForValue().set(cacheKey, String.valueOf(score), SCORE_CACHE_TTL);
@@ -55,9 +61,9 @@ public class SpotScoreCalculator {
     }
 
     // 개별 게시글 기준 점수 계산 (위치 무관)
-    private double computeIndividualSpotScore(Spot spot) {
+    private double computeIndividualSpotScore(Spot spot, int likeCount) {
         // 해당 게시글(spot)만의 인게이지먼트 점수 계산
-        int individualEngagementScore = calculateIndividualEngagementScore(spot);
+        int individualEngagementScore = calculateIndividualEngagementScore(spot, likeCount);
         double timeWeight = calculateTimeWeight(spot.getCreatedAt());
         double redditScore = calculateRedditStyleScore(individualEngagementScore, spot.getCreatedAt());
 
@@ -68,10 +74,9 @@ public class SpotScoreCalculator {
     }
 
     // 개별 게시글의 인게이지먼트 점수만 계산
-    private int calculateIndividualEngagementScore(Spot spot) {
+    private int calculateIndividualEngagementScore(Spot spot, int likeCount) {
         // 해당 게시글에 대한 좋아요, 댓글, 조회수만 계산
-        int likeCount = getIndividualLikeCount(spot.getId());
-        int replyCount = getIndividualReplyCount(spot.getId());
+        int replyCount = spot.getReplyCount() == null ? 0 : spot.getReplyCount(); // 작성/삭제 시 갱신되는 댓글 수
         int viewCount = spot.getViewCount(); // 게시글 자체의 조회수
 
         int score = (replyCount * REPLY_WEIGHT) +
@@ -86,7 +91,7 @@ public class SpotScoreCalculator {
 
     // 특정 게시글에 대한 좋아요 수만 조회
     private int getIndividualLikeCount(Long spotId) {
-        String cacheKey = "spot:individual:likes:" + spotId;
+        String cacheKey = LIKES_CACHE_KEY + spotId;
         String cached = redisTemplate.opsForValue().get(cacheKey);
 
         if (cached != null) {
@@ -99,33 +104,12 @@ public class SpotScoreCalculator {
 
         // 해당 게시글에 대한 좋아요만 계산
         int count = likeRepository.countByTargetIdAndTargetType(spotId, Like.TargetType.SPOT);
-        redisTemplate.opsForValue().set(cacheKey, String.valueOf(count), Duration.ofMinutes(10));
+        redisTemplate.opsForValue().set(cacheKey, String.valueOf(count), LIKES_CACHE_TTL);
 
         log.debug("개별 좋아요 수: 게시글={}, 좋아요={}", spotId, count);
         return count;
     }
 
-    // 특정 게시글에 대한 댓글 수만 조회
-    private int getIndividualReplyCount(Long spotId) {
-        String cacheKey = "spot:individual:replies:" + spotId;
-        String cached = redisTemplate.opsForValue().get(cacheKey);
-
-        if (cached != null) {
-            try {
-                return Integer.parseInt(cached);
-            } catch (NumberFormatException e) {
-                log.warn("캐시된 댓글 수 파싱 실패: {}", cached);
-            }
-        }
-
-        // 해당 게시글에 대한 최상위 댓글(depth=0)만 카운트
-        int count = replyRepository.findByContentIdAndDepthOrderByCreatedAtDesc(spotId, 0).size();
-        redisTemplate.opsForValue().set(cacheKey, String.valueOf(count), Duration.ofMinutes(10));
-
-        log.debug("개별 댓글 수: 게시글={}, 댓글={}", spotId, count);
-        return count;
-    }
-
     // 시간 가중치 계산 (기존과 동일)
     private double calculateTimeWeight(LocalDateTime createdAt) {
         long daysSinceCreation = Duration.between(createdAt, LocalDateTime.now()).toDays();
@@ -149,24 +133,116 @@ public class SpotScoreCalculator {
         return order + timeComponent;
     }
 
-    // 배치 처리 메서드도 개별 기준으로 수정
+    /**
+     * 여러 스팟 점수를 청크 단위로 한 번에 계산 (calculateScore 와 같은 값, 같은 캐시 키).
+     * 캐시된 점수는 MGET 한 번, 미스난 스팟의 좋아요 수는 캐시 MGET 한 번 + 그래도 없으면 GROUP BY 쿼리 한 번,
+     * 계산 결과와 새로 센 좋아요 수는 파이프라인 한 번으로 다시 캐시에 쓴다.
+     */
     public Map<Long, Double> calculateScoresForSpots(List<Spot> spots) {
-        return spots.stream()
-                .collect(Collectors.toMap(
-                        Spot::getId,
-                        this::calculateScore // 개별 계산 메서드 사용
-                ));
+        Map<Long, Double> result = new HashMap<>(spots.size() * 2);
+        for (int from = 0; from < spots.size(); from += BATCH_CHUNK) {
+            scoreChunk(spots.subList(from, Math.min(spots.size(), from + BATCH_CHUNK)), result);
+        }
+        log.debug("스팟 점수 일괄 계산 완료: {}건", result.size());
+        return result;
+    }
+
+    private void scoreChunk(List<Spot> chunk, Map<Long, Double> result) {
+        List<String> cachedScores = multiGet(chunk.stream()
+                .map(s -> String.format(SCORE_CACHE_KEY, s.getId()))
+                .toList());
+        List<Spot> misses = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Double cached = parseDouble(cachedScores.get(i));
+            if (cached != null) result.put(chunk.get(i).getId(), cached);
+            else misses.add(chunk.get(i));
+        }
+        if (misses.isEmpty()) return;
+
+        // 좋아요 수: 캐시 → 없으면 GROUP BY 한 번
+        List<String> cachedLikes = multiGet(misses.stream().map(s -> LIKES_CACHE_KEY + s.getId()).toList());
+        Map<Long, Integer> likeCounts = new HashMap<>(misses.size() * 2);
+        List<Long> uncounted = new ArrayList<>();
+        for (int i = 0; i < misses.size(); i++) {
+            Long id = misses.get(i).getId();
+            Integer cached = parseInt(cachedLikes.get(i));
+            if (cached != null) likeCounts.put(id, cached);
+            else uncounted.add(id);
+        }
+        Map<Long, Integer> counted = new HashMap<>(uncounted.size() * 2);
+        if (!uncounted.isEmpty()) {
+            Map<Long, Long> rows = likeRepository.getLikeCountsForSpots(uncounted);
+            for (Long id : uncounted) {
+                int count = rows.getOrDefault(id, 0L).intValue();
+                likeCounts.put(id, count);
+                counted.put(id, count);
+            }
+        }
+
+        Map<String, String> scores = new HashMap<>(misses.size() * 2);
+        for (Spot s : misses) {
+            double score = computeIndividualSpotScore(s, likeCounts.get(s.getId()));
+            result.put(s.getId(), score);
+            scores.put(String.format(SCORE_CACHE_KEY, s.getId()), String.valueOf(score));
+        }
+        writeBack(scores, counted);
+    }
+
+    // Redis 장애 시에는 전부 미스로 보고 DB 로 계산
+    private List<String> multiGet(List<String> keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null && values.size() == keys.size()) return values;
+        } catch (Exception e) {
+            log.warn("점수 캐시 MGET 실패, DB 로 계산: {}", e.getMessage());
+        }
+        return Collections.nCopies(keys.size(), null);
+    }
+
+    private void writeBack(Map<String, String> scores, Map<Long, Integer> likeCounts) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    scores.forEach((key, score) -> operations.opsForValue().set(key, score, SCORE_CACHE_TTL));
+                    likeCounts.forEach((spotId, count) -> operations.opsForValue()
+                            .set(LIKES_CACHE_KEY + spotId, String.valueOf(count), LIKES_CACHE_TTL));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("점수 캐시 일괄 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Double parseDouble(String value) {
+        if (value == null) return null;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            log.warn("캐시된 점수 파싱 실패: {}", value);
+            return null;
+        }
+    }
+
+    private Integer parseInt(String value) {
+        if (value == null) return null;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warn("캐시된 좋아요 수 파싱 실패: {}", value);
+            return null;
+        }
     }
 
     // 캐시 무효화 메서드 수정
     public void invalidateScoreCache(Long spotId) {
         String scoreKey = String.format(SCORE_CACHE_KEY, spotId);
-        String likesKey = "spot:individual:likes:" + spotId;
-        String repliesKey = "spot:individual:replies:" + spotId;
+        String likesKey = LIKES_CACHE_KEY + spotId;
 
         redisTemplate.delete(scoreKey);
         redisTemplate.delete(likesKey);
-        redisTemplate.delete(repliesKey);
 
         log.info("개별 스팟 캐시 삭제 완료: 게시글={}", spotId);
     }
@@ -0,0 +1,37 @@
+package com.goodda.jejuday.spot.controller;
+
+import com.goodda.jejuday.auth.dto.ApiResponse;
+import com.goodda.jejuday.spot.service.SpotFeedService;
+import com.goodda.jejuday.spot.service.SpotViewLogPipeline;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/v1/admin/spot")
+@RequiredArgsConstructor
+@Tag(name = "스팟 관리자 API", description = "관리자용 스팟 파이프라인 모니터링/복구 API")
+@PreAuthorize("hasRole('ADMIN')")
+public class SpotAdminController {
+
+    private final SpotViewLogPipeline viewLogPipeline;
+    private final SpotFeedService feedService;
+
+    @GetMapping("/view-log/stats")
+    @Operation(summary = "조회 로그 파이프라인 상태", description = "큐 적재량, 중복 제거/유실/저장 건수를 조회합니다.")
+    public ResponseEntity<ApiResponse<SpotViewLogPipeline.Stats>> getViewLogStats() {
+        return ResponseEntity.ok(ApiResponse.onSuccess(viewLogPipeline.stats()));
+    }
+
+    @PostMapping("/feeds/rebuild")
+    @Operation(summary = "피드 재구성", description = "Redis 피드(최신/조회수/좋아요/트렌딩)를 DB 기준으로 다시 만듭니다.")
+    public ResponseEntity<ApiResponse<Integer>> rebuildFeeds() {
+        return ResponseEntity.ok(ApiResponse.onSuccess(feedService.rebuild()));
+    }
+}
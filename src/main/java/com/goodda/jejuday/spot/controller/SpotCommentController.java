@@ -37,6 +37,27 @@ public class SpotCommentController {
         return ResponseEntity.ok(commentService.findReplies(parentReplyId, page, size));
     }
 
+    // 0-3. 댓글 스레드 커서 조회 (최상위 댓글 + 대댓글 미리보기 + 대댓글 수)
+    @GetMapping("/threads")
+    public ResponseEntity<CursorPageResponse<CommentThreadResponse>> getThreads(
+            @PathVariable Long spotId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "3") int previewSize
+    ) {
+        return ResponseEntity.ok(commentService.findThreads(spotId, cursor, size, previewSize));
+    }
+
+    // 0-4. 특정 댓글의 답글 커서 조회 (스레드의 repliesCursor 로 이어서 조회)
+    @GetMapping("/{parentReplyId}/replies/cursor")
+    public ResponseEntity<CursorPageResponse<ReplyResponse>> getRepliesByCursor(
+            @PathVariable Long parentReplyId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(commentService.findReplies(parentReplyId, cursor, size));
+    }
+
     // 1. 댓글 생성 (depth=0)
     @PostMapping
     public ReplyResponse createComment(
@@ -5,10 +5,13 @@ import com.goodda.jejuday.auth.util.SecurityUtil;
 import com.goodda.jejuday.spot.entity.Like;
 import com.goodda.jejuday.spot.entity.Reply;
 import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.UserReactionEvent;
 import com.goodda.jejuday.spot.repository.LikeRepository;
 import com.goodda.jejuday.spot.repository.ReplyRepository;
 import com.goodda.jejuday.spot.repository.SpotRepository;
+import com.goodda.jejuday.spot.service.UserReactionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -23,6 +26,8 @@ public class SpotCommentLikeController {
     private final ReplyRepository replyRepository;
     private final SpotRepository spotRepository;
     private final SecurityUtil securityUtil;
+    private final UserReactionService reactionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 좋아요
     @PostMapping
@@ -52,6 +57,8 @@ public class SpotCommentLikeController {
             like.setTargetType(Like.TargetType.REPLY);
             like.setTargetId(replyId);
             likeRepository.save(like);
+            eventPublisher.publishEvent(
+                    UserReactionEvent.added(me.getId(), UserReactionEvent.Kind.REPLY_LIKE, replyId));
         }
         return ResponseEntity.noContent().build();
     }
@@ -63,24 +70,26 @@ public class SpotCommentLikeController {
         likeRepository.findByUser_IdAndTargetIdAndTargetType(
                         me.getId(), replyId, Like.TargetType.REPLY
                 )
-                .ifPresent(likeRepository::delete);
+                .ifPresent(like -> {
+                    likeRepository.delete(like);
+                    eventPublisher.publishEvent(
+                            UserReactionEvent.removed(me.getId(), UserReactionEvent.Kind.REPLY_LIKE, replyId));
+                });
         return ResponseEntity.noContent().build();
     }
 
-    // 댓글 좋아요 개수
+    // 댓글 좋아요 개수 (단건용, 댓글 목록 응답에는 likeCount 로 포함됨)
     @GetMapping("/count")
     public ResponseEntity<Long> countReplyLikes(@PathVariable Long spotId, @PathVariable Long replyId) {
         long count = likeRepository.countByTargetIdAndTargetType(replyId, Like.TargetType.REPLY);
         return ResponseEntity.ok(count);
     }
 
-    // 내가 댓글 좋아요 눌렀는지
+    // 내가 댓글 좋아요 눌렀는지 (단건용, 댓글 목록 응답에는 likedByMe 로 포함됨)
     @GetMapping("/me")
     public ResponseEntity<Boolean> likedByMe(@PathVariable Long spotId, @PathVariable Long replyId) {
         var me = securityUtil.getAuthenticatedUser();
-        boolean liked = likeRepository.existsByUser_IdAndTargetIdAndTargetType(
-                me.getId(), replyId, Like.TargetType.REPLY
-        );
+        boolean liked = reactionService.contains(me.getId(), UserReactionEvent.Kind.REPLY_LIKE, replyId);
         return ResponseEntity.ok(liked);
     }
 }
@@ -2,8 +2,11 @@ package com.goodda.jejuday.spot.controller;
 
 import com.goodda.jejuday.auth.dto.ApiResponse;
 import com.goodda.jejuday.spot.dto.SpotCommunityResponse;
+import com.goodda.jejuday.spot.dto.TrendingKeywordResponse;
 import com.goodda.jejuday.spot.entity.Spot;
 import com.goodda.jejuday.spot.service.SearchHistoryService;
+import com.goodda.jejuday.spot.service.SearchTrendingService;
+import com.goodda.jejuday.spot.service.SpotCounterService;
 import com.goodda.jejuday.spot.service.SpotSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +24,8 @@ public class SpotCommunitySearchController {
 
     private final SpotSearchService searchService;
     private final SearchHistoryService historyService;
+    private final SearchTrendingService trendingService;
+    private final SpotCounterService counterService;
 
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<SpotCommunityResponse>>> search(
@@ -32,13 +37,13 @@ public class SpotCommunitySearchController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<SpotCommunityResponse> dtoPage = searchService
-                .searchCommunitySpotsBySql(query, pageable)
+                .searchCommunitySpots(query, pageable)
                 .map(s -> SpotCommunityResponse.builder()
                         .id(s.getId())
                         .name(s.getName())
                         .description(s.getDescription())
-                        .likeCount(s.getLikeCount())
-                        .viewCount(s.getViewCount())
+                        .likeCount(counterService.likeCount(s))
+                        .viewCount(counterService.viewCount(s))
                         .type(s.getType())
                         .authorNickname(s.getUser().getNickname())
                         .createdAt(s.getCreatedAt().toString())
@@ -54,4 +59,15 @@ public class SpotCommunitySearchController {
         List<String> recent = historyService.getRecentSearchHistory(4);
         return ResponseEntity.ok(ApiResponse.onSuccess(recent));
     }
+
+    /** 실시간 인기 검색어 (window = hour | day) */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingKeywordResponse>>> trending(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<TrendingKeywordResponse> result =
+                trendingService.trending(SearchTrendingService.Window.from(window), size);
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
 }
@@ -67,7 +67,16 @@ public class SpotController {
     }
 
     // 2) 인기순으로 위치 마커 - reddit 알고리즘 적용 - redis 적용.
-    
+    @Description("(3) 주간제주 > (필터) 인기순으로 스팟 조회")
+    @GetMapping("/trending")
+    public Page<SpotResponse> trending(
+            @ParameterObject
+            @PageableDefault(size = 20)
+            Pageable pageable
+    ) {
+        return spotService.getTrendingSpots(pageable);
+    }
+
     // 3-1) 조회수순으로 위치 마커
     @Description("(3) 주간제주 > (필터) 조회순으로 스팟 조회")
     @GetMapping("/most-viewed")
@@ -90,6 +99,34 @@ public class SpotController {
         return spotService.getMostLikedSpots(pageable);
     }
 
+    // 3-4) 무한 스크롤용 커서 기반 피드 (cursor 없이 요청하면 첫 페이지, 응답의 nextCursor 로 다음 페이지)
+    @Description("(3) 주간제주 > 최신순 스팟 조회 (커서)")
+    @GetMapping("/latest/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SpotResponse>>> latestByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(spotService.getLatestSpots(cursor, size)));
+    }
+
+    @Description("(3) 주간제주 > 조회순 스팟 조회 (커서)")
+    @GetMapping("/most-viewed/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SpotResponse>>> mostViewedByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(spotService.getMostViewedSpots(cursor, size)));
+    }
+
+    @Description("(3) 주간제주 > 좋아요순 스팟 조회 (커서)")
+    @GetMapping("/most-liked/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SpotResponse>>> mostLikedByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(spotService.getMostLikedSpots(cursor, size)));
+    }
+
     // 3-3.
     // 1) 홈-위치 마커 클릭 시 상세 정보 보여주기
     // 2) 주간제주-게시글 클릭 시 상세 정보 보여주기
@@ -2,9 +2,14 @@ package com.goodda.jejuday.spot.controller;
 
 import com.goodda.jejuday.auth.dto.ApiResponse;
 import com.goodda.jejuday.auth.entity.User;
+import com.goodda.jejuday.spot.dto.SpotClusterResponse;
 import com.goodda.jejuday.spot.dto.SpotMapResponse;
+import com.goodda.jejuday.spot.dto.TrendingKeywordResponse;
 import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.search.SpotGridIndex;
 import com.goodda.jejuday.spot.service.SearchHistoryService;
+import com.goodda.jejuday.spot.service.SearchTrendingService;
+import com.goodda.jejuday.spot.service.SpotGeoIndexService;
 import com.goodda.jejuday.spot.service.SpotSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.goodda.jejuday.auth.util.SecurityUtil;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,20 +28,63 @@ public class SpotMapSearchController {
 
     private final SpotSearchService searchService;
     private final SearchHistoryService historyService;
+    private final SearchTrendingService trendingService;
+    private final SpotGeoIndexService geoIndexService;
 
-    // TODO : 갯수 제한 or 거리에 가까운 순으로 띄우기
+    /**
+     * 지도 검색. 위치(lat/lng)를 보내면 거리 + 인기도 결합 점수순, 없으면 인기순으로 최대 size 개.
+     */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<SpotMapResponse>>> search(@RequestParam String query) {
+    public ResponseEntity<ApiResponse<List<SpotMapResponse>>> search(
+            @RequestParam String query,
+            @RequestParam(required = false) BigDecimal lat,
+            @RequestParam(required = false) BigDecimal lng,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         // 서비스 레이어에서 한 번만 SecurityUtil 호출
         historyService.recordSearch(query);
 
-        List<SpotMapResponse> result = searchService.searchMapSpotsByTrie(query).stream()
+        Double latitude = lat == null ? null : lat.doubleValue();
+        Double longitude = lng == null ? null : lng.doubleValue();
+        List<SpotMapResponse> result = searchService.searchMapSpots(query, latitude, longitude, size).stream()
                 .map(s -> SpotMapResponse.builder()
                         .id(s.getId())
                         .name(s.getName())
                         .latitude(s.getLatitude().doubleValue())
                         .longitude(s.getLongitude().doubleValue())
                         .type(s.getType())
+                        .distanceKm(latitude == null || longitude == null ? null
+                                : SpotGridIndex.haversineKm(latitude, longitude,
+                                        s.getLatitude().doubleValue(), s.getLongitude().doubleValue()))
+                        .build()
+                )
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
+
+    /**
+     * 지도 화면 영역(남서/북동 좌표) + 줌 레벨 기준 마커 클러스터.
+     * 스팟 수와 관계없이 화면 격자 수만큼만 응답한다.
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<ApiResponse<List<SpotClusterResponse>>> clusters(
+            @RequestParam double swLat,
+            @RequestParam double swLng,
+            @RequestParam double neLat,
+            @RequestParam double neLng,
+            @RequestParam int zoom
+    ) {
+        if (swLat > neLat || swLng > neLng) {
+            throw new IllegalArgumentException("남서 좌표는 북동 좌표보다 작아야 합니다.");
+        }
+
+        List<SpotClusterResponse> result = geoIndexService.findClusters(swLat, swLng, neLat, neLng, zoom).stream()
+                .map(c -> SpotClusterResponse.builder()
+                        .latitude(c.latitude())
+                        .longitude(c.longitude())
+                        .count(c.count())
+                        .representativeSpotId(c.representativeId())
                         .build()
                 )
                 .collect(Collectors.toList());
@@ -49,4 +98,15 @@ public class SpotMapSearchController {
         List<String> recent = historyService.getRecentSearchHistory(4);
         return ResponseEntity.ok(ApiResponse.onSuccess(recent));
     }
+
+    /** 실시간 인기 검색어 (window = hour | day) */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingKeywordResponse>>> trending(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<TrendingKeywordResponse> result =
+                trendingService.trending(SearchTrendingService.Window.from(window), size);
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
+    }
 }
@@ -0,0 +1,48 @@
+package com.goodda.jejuday.spot.controller;
+
+import com.goodda.jejuday.auth.dto.ApiResponse;
+import com.goodda.jejuday.spot.dto.CursorPageResponse;
+import com.goodda.jejuday.spot.dto.SpotResponse;
+import com.goodda.jejuday.spot.dto.TagCountResponse;
+import com.goodda.jejuday.spot.service.SpotTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/spots/tags")
+@RequiredArgsConstructor
+public class SpotTagController {
+
+    private final SpotTagService tagService;
+
+    /** 태그가 달린 스팟 (최신순, cursor 없이 요청하면 첫 페이지) */
+    @GetMapping("/{tag}/spots")
+    public ResponseEntity<ApiResponse<CursorPageResponse<SpotResponse>>> spotsByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(tagService.getSpotsByTag(tag, cursor, size)));
+    }
+
+    /** 태그 자동완성 (prefix 없으면 인기 태그) */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<TagCountResponse>>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(tagService.suggest(prefix, size)));
+    }
+
+    /** 함께 많이 달린 연관 태그 */
+    @GetMapping("/{tag}/related")
+    public ResponseEntity<ApiResponse<List<TagCountResponse>>> related(
+            @PathVariable String tag,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.onSuccess(tagService.related(tag, size)));
+    }
+}
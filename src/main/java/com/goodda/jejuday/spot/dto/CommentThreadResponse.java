@@ -0,0 +1,32 @@
+package com.goodda.jejuday.spot.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 댓글 스레드: 최상위 댓글 + 앞쪽 대댓글 미리보기 + 전체 대댓글 수.
+ * 나머지 대댓글은 repliesCursor 로 대댓글 커서 조회를 이어서 요청한다.
+ */
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentThreadResponse {
+
+    @Schema(description = "최상위 댓글")
+    private ReplyResponse comment;
+
+    @Schema(description = "대댓글 미리보기 (오래된 순)")
+    private List<ReplyResponse> replies;
+
+    @Schema(description = "전체 대댓글 수 (삭제 표시된 대댓글 포함)", example = "12")
+    private long replyCount;
+
+    @Schema(description = "미리보기 이후 대댓글이 더 있는지", example = "true")
+    private boolean hasMoreReplies;
+
+    @Schema(description = "다음 대댓글 커서 (미리보기가 비어 있으면 null, 처음부터 조회)", nullable = true)
+    private String repliesCursor;
+}
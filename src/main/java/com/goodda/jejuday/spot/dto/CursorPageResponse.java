@@ -0,0 +1,18 @@
+package com.goodda.jejuday.spot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답.
+ * 다음 페이지는 nextCursor 를 그대로 다시 보내서 요청한다. (전체 개수는 계산하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -35,6 +35,12 @@ public class ReplyResponse {
     @Schema(description = "소프트 삭제 여부", example = "false")
     private Boolean isDeleted;
 
+    @Schema(description = "좋아요 수", example = "3")
+    private long likeCount;
+
+    @Schema(description = "현재 사용자가 좋아요 눌렀는지 (비로그인이면 false)", example = "false")
+    private boolean likedByMe;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
 
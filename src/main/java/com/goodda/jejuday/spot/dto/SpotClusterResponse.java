@@ -0,0 +1,11 @@
+package com.goodda.jejuday.spot.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class SpotClusterResponse {
+    private double latitude;          // 클러스터 중심 (소속 스팟 좌표 평균)
+    private double longitude;
+    private int count;                // 소속 스팟 수
+    private Long representativeSpotId; // 대표 스팟 (좋아요 최다)
+}
@@ -1,22 +1,17 @@
 package com.goodda.jejuday.spot.dto;
 
-import com.goodda.jejuday.spot.entity.Spot;
-import lombok.Data;
+import com.goodda.jejuday.auth.service.AuthorProfileCache.AuthorProfile;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import java.time.LocalDate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @EqualsAndHashCode(callSuper = true)
 public class SpotDetailResponse extends SpotResponse {
     private String description;
-    private int commentCount;
-    private boolean bookmarkedByMe;
 
     // 추가: 상세 전용 메타
     private Long themeId;        // null 가능
@@ -24,54 +19,36 @@ public class SpotDetailResponse extends SpotResponse {
     private List<String> tags;   // tag1~3의 name만 담음(존재하는 것만)
     private LocalDateTime updatedAt;
 
-    private static boolean isChallengeOngoing(Spot spot) {
-        if (spot.getType() != Spot.SpotType.CHALLENGE) return false;
-        if (spot.getStartDate() == null || spot.getEndDate() == null) return false;
-        LocalDate today = LocalDate.now();
-        return !today.isBefore(spot.getStartDate()) && !today.isAfter(spot.getEndDate());
-    }
-
-    public SpotDetailResponse(Spot spot,
+    /**
+     * 캐시된 공유 스냅샷 + 작성자 프로필(없으면 null) + 사용자별 값(좋아요/북마크 여부)으로 응답 생성
+     */
+    public SpotDetailResponse(SpotDetailSnapshot snapshot, AuthorProfile author,
                               int likeCount, boolean likedByMe,
                               boolean bookmarkedByMe) {
         super(
-                spot.getId(),
-                spot.getName(),
-                spot.getDescription(),          // 추가: 글 내용
-                spot.getLatitude(),
-                spot.getLongitude(),
+                snapshot.id(),
+                snapshot.name(),
+                snapshot.description(),         // 추가: 글 내용
+                snapshot.latitude(),
+                snapshot.longitude(),
                 likeCount,
                 likedByMe,
-                buildImageUrls(spot),
-                spot.getUser().getId(),         // 추가: 작성자 ID
-                spot.getUser().getNickname(),   // 추가: 작성자 닉네임
-                spot.getUser().getProfile(),    // 추가: 작성자 프로필
-                spot.getType(),
-                isChallengeOngoing(spot),
-                spot.getCreatedAt()             // 추가: 작성 시간
+                snapshot.imageUrls(),
+                snapshot.userId(),              // 추가: 작성자 ID
+                author != null ? author.nickname() : null,         // 추가: 작성자 닉네임
+                author != null ? author.profileImageUrl() : null,  // 추가: 작성자 프로필
+                snapshot.type(),
+                snapshot.challengeOngoingOn(LocalDate.now()),
+                snapshot.createdAt(),           // 추가: 작성 시간
+                snapshot.commentCount(),
+                bookmarkedByMe
         );
-        this.description = spot.getDescription();
-        this.commentCount = 0;              // 추후 구현
-        this.bookmarkedByMe = bookmarkedByMe;
-        this.updatedAt = spot.getUpdatedAt().withNano(0);
+        this.description = snapshot.description();
+        this.updatedAt = snapshot.updatedAt();
         // 테마
-        if (spot.getTheme() != null) {
-            this.themeId = spot.getTheme().getId();
-            this.themeName = spot.getTheme().getName();
-        }
-
+        this.themeId = snapshot.themeId();
+        this.themeName = snapshot.themeName();
         // 태그들
-        this.tags = new ArrayList<>(3);
-        if (spot.getTag1() != null && !spot.getTag1().isBlank()) this.tags.add(spot.getTag1());
-        if (spot.getTag2() != null && !spot.getTag2().isBlank()) this.tags.add(spot.getTag2());
-        if (spot.getTag3() != null && !spot.getTag3().isBlank()) this.tags.add(spot.getTag3());
-    }
-
-    private static List<String> buildImageUrls(Spot spot) {
-        List<String> imgs = new ArrayList<>(3);
-        if (spot.getImg1() != null && !spot.getImg1().isBlank()) imgs.add(spot.getImg1());
-        if (spot.getImg2() != null && !spot.getImg2().isBlank()) imgs.add(spot.getImg2());
-        if (spot.getImg3() != null && !spot.getImg3().isBlank()) imgs.add(spot.getImg3());
-        return imgs;
+        this.tags = snapshot.tags();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.goodda.jejuday.spot.dto;
+
+import com.goodda.jejuday.spot.entity.Spot;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스팟 상세 중 사용자와 무관한 공유 부분. (상세 캐시에 저장되는 값)
+ * 좋아요 수처럼 수시로 바뀌는 카운터는 담지 않고 응답 시 SpotCounterService 에서 채운다.
+ * 작성자 닉네임/프로필 이미지도 스팟과 무관하게 바뀌므로 작성자 id 만 두고 응답 시 AuthorProfileCache 에서 채운다.
+ */
+public record SpotDetailSnapshot(
+        Long id,
+        String name,
+        String description,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        List<String> imageUrls,
+        Long userId,
+        Spot.SpotType type,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long themeId,
+        String themeName,
+        List<String> tags,
+        int commentCount
+) {
+
+    public static SpotDetailSnapshot from(Spot spot, int commentCount) {
+        List<String> imgs = new ArrayList<>(3);
+        if (spot.getImg1() != null && !spot.getImg1().isBlank()) imgs.add(spot.getImg1());
+        if (spot.getImg2() != null && !spot.getImg2().isBlank()) imgs.add(spot.getImg2());
+        if (spot.getImg3() != null && !spot.getImg3().isBlank()) imgs.add(spot.getImg3());
+
+        List<String> tags = new ArrayList<>(3);
+        if (spot.getTag1() != null && !spot.getTag1().isBlank()) tags.add(spot.getTag1());
+        if (spot.getTag2() != null && !spot.getTag2().isBlank()) tags.add(spot.getTag2());
+        if (spot.getTag3() != null && !spot.getTag3().isBlank()) tags.add(spot.getTag3());
+
+        return new SpotDetailSnapshot(
+                spot.getId(),
+                spot.getName(),
+                spot.getDescription(),
+                spot.getLatitude(),
+                spot.getLongitude(),
+                imgs,
+                spot.getUser().getId(),
+                spot.getType(),
+                spot.getStartDate(),
+                spot.getEndDate(),
+                spot.getCreatedAt(),
+                spot.getUpdatedAt() != null ? spot.getUpdatedAt().withNano(0) : null,
+                spot.getTheme() != null ? spot.getTheme().getId() : null,
+                spot.getTheme() != null ? spot.getTheme().getName() : null,
+                tags,
+                commentCount
+        );
+    }
+
+    // 진행 여부는 날짜에 따라 바뀌므로 저장하지 않고 응답 시 계산
+    public boolean challengeOngoingOn(LocalDate today) {
+        if (type != Spot.SpotType.CHALLENGE) return false;
+        if (startDate == null || endDate == null) return false;
+        return !today.isBefore(startDate) && !today.isAfter(endDate);
+    }
+}
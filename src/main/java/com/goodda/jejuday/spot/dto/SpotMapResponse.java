@@ -10,4 +10,5 @@ public class SpotMapResponse {
     private double latitude;
     private double longitude;
     private SpotType type;
+    private Double distanceKm; // 위치를 보낸 검색에서만
 }
\ No newline at end of file
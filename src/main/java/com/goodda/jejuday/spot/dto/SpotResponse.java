@@ -32,7 +32,15 @@ public class SpotResponse {
 
     private LocalDateTime createdAt; // 추가: 작성 시간
 
+    private int commentCount;
+    private boolean bookmarkedByMe;
+
     public static SpotResponse fromEntity(Spot spot, int likeCount, boolean likedByMe) {
+        return fromEntity(spot, likeCount, likedByMe, 0, false);
+    }
+
+    public static SpotResponse fromEntity(Spot spot, int likeCount, boolean likedByMe,
+                                          int commentCount, boolean bookmarkedByMe) {
         List<String> imgs = new ArrayList<>(3);
         if (spot.getImg1() != null && !spot.getImg1().isBlank()) imgs.add(spot.getImg1());
         if (spot.getImg2() != null && !spot.getImg2().isBlank()) imgs.add(spot.getImg2());
@@ -63,7 +71,9 @@ public class SpotResponse {
                 spot.getUser().getProfile(), // 작성자 프로필
                 spot.getType(),
                 ongoing,
-                spot.getCreatedAt() // 작성 시간
+                spot.getCreatedAt(), // 작성 시간
+                commentCount,
+                bookmarkedByMe
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.goodda.jejuday.spot.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TagCountResponse {
+    private String tag;
+    private int count; // 태그가 달린 스팟 수 (연관 태그는 함께 달린 스팟 수)
+}
@@ -0,0 +1,10 @@
+package com.goodda.jejuday.spot.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TrendingKeywordResponse {
+    private int rank;
+    private String keyword;
+    private long score; // 시간 가중 추정 검색 수
+}
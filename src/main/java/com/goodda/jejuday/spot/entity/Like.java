@@ -9,7 +9,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "spot_likes")  // “Likes” 예약어 회피
+@Table(name = "spot_likes", indexes = {  // “Likes” 예약어 회피
+        // 대상별 좋아요 수 GROUP BY
+        @Index(name = "idx_spot_likes_target", columnList = "target_type, target_id"),
+        // 사용자별 좋아요 목록 / 여부
+        @Index(name = "idx_spot_likes_user_target", columnList = "user_id, target_type, target_id")
+})
 @Getter
 @Setter
 public class Like {
@@ -9,7 +9,12 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reply")
+@Table(name = "reply", indexes = {
+        // 스팟별 최상위 댓글 커서 페이지
+        @Index(name = "idx_reply_content_depth_created_id", columnList = "content_id, depth, created_at, id"),
+        // 부모 댓글별 대댓글 (미리보기 / 커서 페이지)
+        @Index(name = "idx_reply_parent_created_id", columnList = "parent_reply_id, created_at, id")
+})
 @Getter @Setter
 public class Reply {
     @Id
@@ -8,7 +8,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "search_history")
+@Table(name = "search_history", indexes = {
+        @Index(name = "idx_search_history_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_search_history_created", columnList = "created_at")
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class SearchHistory {
 
@@ -17,7 +17,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "spot")
+@Table(name = "spot", indexes = {
+        // 커서 페이지 정렬용 (정렬 키, id)
+        @Index(name = "idx_spot_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_spot_view_count_id", columnList = "view_count, id"),
+        @Index(name = "idx_spot_like_count_id", columnList = "like_count, id"),
+        // 내가 쓴 글 댓글 많은 순
+        @Index(name = "idx_spot_user_reply_count_id", columnList = "user_id, reply_count, id")
+})
 @Getter @Setter
 public class Spot {
 
@@ -49,14 +56,18 @@ public class Spot {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    // 누적 조회 수 (denormalized)
-    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    // 누적 조회 수 (denormalized). SpotCounterService 의 일괄 UPDATE 로만 갱신 (엔티티 저장이 반영분을 덮어쓰지 않도록)
+    @Column(name = "view_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
     private Integer viewCount = 0;
 
-    // 누적 좋아요 수 (denormalized)
-    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    // 누적 좋아요 수 (denormalized). SpotCounterService 의 일괄 UPDATE 로만 갱신
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
     private Integer likeCount = 0;
 
+    // 삭제되지 않은 댓글 수 (denormalized). 댓글 작성/삭제 트랜잭션에서 SpotRepository.adjustReplyCount 로만 갱신
+    @Column(name = "reply_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    private Integer replyCount = 0;
+
     //
     @Column(name = "start_date")
     private LocalDate startDate;
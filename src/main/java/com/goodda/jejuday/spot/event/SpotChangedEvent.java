@@ -0,0 +1,34 @@
+package com.goodda.jejuday.spot.event;
+
+import com.goodda.jejuday.spot.entity.Spot;
+
+/**
+ * Spot 생성/수정/승격/삭제 시 발행되는 이벤트.
+ * 인메모리 인덱스들은 커밋 이후(@TransactionalEventListener) 이 이벤트로 갱신된다.
+ */
+public record SpotChangedEvent(Spot spot, ChangeType changeType) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, PROMOTED, DELETED
+    }
+
+    public static SpotChangedEvent created(Spot spot) {
+        return new SpotChangedEvent(spot, ChangeType.CREATED);
+    }
+
+    public static SpotChangedEvent updated(Spot spot) {
+        return new SpotChangedEvent(spot, ChangeType.UPDATED);
+    }
+
+    public static SpotChangedEvent promoted(Spot spot) {
+        return new SpotChangedEvent(spot, ChangeType.PROMOTED);
+    }
+
+    public static SpotChangedEvent deleted(Spot spot) {
+        return new SpotChangedEvent(spot, ChangeType.DELETED);
+    }
+
+    public Long spotId() {
+        return spot.getId();
+    }
+}
@@ -0,0 +1,19 @@
+package com.goodda.jejuday.spot.event;
+
+/**
+ * 좋아요/조회 증감 이벤트. 커밋 이후 카운터 서비스가 메모리에 누적했다가 일괄 반영한다.
+ */
+public record SpotEngagementEvent(Long spotId, int likeDelta, int viewDelta) {
+
+    public static SpotEngagementEvent liked(Long spotId) {
+        return new SpotEngagementEvent(spotId, 1, 0);
+    }
+
+    public static SpotEngagementEvent unliked(Long spotId) {
+        return new SpotEngagementEvent(spotId, -1, 0);
+    }
+
+    public static SpotEngagementEvent viewed(Long spotId) {
+        return new SpotEngagementEvent(spotId, 0, 1);
+    }
+}
@@ -0,0 +1,7 @@
+package com.goodda.jejuday.spot.event;
+
+/**
+ * 스팟의 댓글이 작성/삭제된 경우 발행. 댓글 수를 들고 있는 캐시 무효화용.
+ */
+public record SpotRepliesChangedEvent(Long spotId) {
+}
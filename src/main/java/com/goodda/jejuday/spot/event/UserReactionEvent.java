@@ -0,0 +1,21 @@
+package com.goodda.jejuday.spot.event;
+
+/**
+ * 사용자의 좋아요/북마크 추가·취소 이벤트. 커밋 이후 사용자별 반응 집합(Redis)에 반영한다.
+ */
+public record UserReactionEvent(Long userId, Kind kind, Long targetId, boolean added) {
+
+    public enum Kind {
+        SPOT_LIKE,      // 좋아요한 스팟
+        REPLY_LIKE,     // 좋아요한 댓글
+        SPOT_BOOKMARK   // 북마크한 스팟
+    }
+
+    public static UserReactionEvent added(Long userId, Kind kind, Long targetId) {
+        return new UserReactionEvent(userId, kind, targetId, true);
+    }
+
+    public static UserReactionEvent removed(Long userId, Kind kind, Long targetId) {
+        return new UserReactionEvent(userId, kind, targetId, false);
+    }
+}
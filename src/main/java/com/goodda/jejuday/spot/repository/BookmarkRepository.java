@@ -2,8 +2,21 @@ package com.goodda.jejuday.spot.repository;
 
 import com.goodda.jejuday.spot.entity.Bookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     boolean existsByUserIdAndSpotId(Long userId, Long spotId);
     void deleteByUserIdAndSpotId(Long userId, Long spotId);
-}
\ No newline at end of file
+
+    // 특정 사용자가 여러 스팟 중 북마크한 스팟 id (배치 확인)
+    @Query("SELECT b.spot.id FROM Bookmark b WHERE b.user.id = :userId AND b.spot.id IN :spotIds")
+    List<Long> findBookmarkedSpotIds(@Param("userId") Long userId, @Param("spotIds") Collection<Long> spotIds);
+
+    // 사용자가 북마크한 스팟 id 전체 (사용자별 반응 집합 적재용)
+    @Query("SELECT b.spot.id FROM Bookmark b WHERE b.user.id = :userId")
+    List<Long> findSpotIdsByUserId(@Param("userId") Long userId);
+}
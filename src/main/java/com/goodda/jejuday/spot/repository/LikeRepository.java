@@ -66,6 +66,18 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
                 ));
     }
 
+    // 댓글 ID 목록에 대한 좋아요 수 (좋아요 없는 댓글은 빠짐)
+    default Map<Long, Long> getLikeCountsForReplies(List<Long> replyIds) {
+        if (replyIds == null || replyIds.isEmpty()) {
+            return Map.of();
+        }
+        return countByTargetIdsAndTargetType(replyIds, Like.TargetType.REPLY).stream()
+                .collect(java.util.stream.Collectors.toMap(
+                        result -> (Long) result[0],
+                        result -> (Long) result[1]
+                ));
+    }
+
     // 특정 사용자가 여러 스팟에 좋아요를 눌렀는지 배치 확인 (올바른 필드명 사용)
     @Query("""
         SELECT l.targetId 
@@ -78,6 +90,11 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
                                   @Param("targetIds") List<Long> targetIds,
                                   @Param("targetType") Like.TargetType targetType);
 
+    // 사용자가 좋아요한 대상 id 전체 (사용자별 반응 집합 적재용)
+    @Query("SELECT l.targetId FROM Like l WHERE l.user.id = :userId AND l.targetType = :targetType")
+    List<Long> findTargetIdsByUserId(@Param("userId") Long userId,
+                                     @Param("targetType") Like.TargetType targetType);
+
     // 스팟별 좋아요 수 조회 (캐싱용) - 더 안전한 버전
     @Query("""
         SELECT l.spot.id, COUNT(l) 
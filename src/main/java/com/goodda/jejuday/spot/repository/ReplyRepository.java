@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -37,6 +39,50 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
             Long parentReplyId
     );
 
+    /** (커서) 스팟의 최상위 댓글, (createdAt, id) 내림차순으로 커서 다음부터. COUNT 쿼리 없음 */
+    @Query("""
+        SELECT r FROM Reply r
+        WHERE r.contentId = :contentId AND r.depth = 0
+          AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    List<Reply> findTopLevelAfter(@Param("contentId") Long contentId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    /** (커서) 특정 댓글의 대댓글, (createdAt, id) 오름차순으로 커서 다음부터 */
+    @Query("""
+        SELECT r FROM Reply r
+        WHERE r.parentReply.id = :parentReplyId
+          AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+        ORDER BY r.createdAt ASC, r.id ASC
+    """)
+    List<Reply> findChildrenAfter(@Param("parentReplyId") Long parentReplyId,
+                                  @Param("createdAt") LocalDateTime createdAt,
+                                  @Param("id") Long id,
+                                  Pageable pageable);
+
+    /**
+     * 부모 댓글별 앞쪽(오래된 순) 대댓글 id 와 전체 대댓글 수 - [parentReplyId, id, total].
+     * 부모마다 최대 max(limit, 1)행이라 대댓글이 많아도 결과 크기는 페이지 크기에 비례한다.
+     */
+    @Query(value = """
+        SELECT t.parent_reply_id, t.id, t.total FROM (
+            SELECT r.parent_reply_id, r.id,
+                   ROW_NUMBER() OVER (PARTITION BY r.parent_reply_id ORDER BY r.created_at, r.id) AS rn,
+                   COUNT(*) OVER (PARTITION BY r.parent_reply_id) AS total
+            FROM reply r
+            WHERE r.parent_reply_id IN (:parentIds)
+        ) t
+        WHERE t.rn <= GREATEST(:limit, 1)
+        """, nativeQuery = true)
+    List<Object[]> findChildPreview(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    /** id 목록 → 댓글 일괄 조회, 부모/작성 순 정렬 (작성자 표시는 프로필 캐시에서) */
+    @Query("SELECT r FROM Reply r WHERE r.id IN :ids ORDER BY r.parentReply.id, r.createdAt, r.id")
+    List<Reply> findAllByIdInOrderByParent(@Param("ids") Collection<Long> ids);
+
     /** 사용자가 작성한 댓글 조회 (삭제되지 않은 것만) - 페이징 지원 */
     @Query("SELECT r FROM Reply r JOIN FETCH r.user WHERE r.user.id = :userId AND (r.isDeleted = false OR r.isDeleted IS NULL) ORDER BY r.createdAt DESC")
     Page<Reply> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
@@ -5,8 +5,16 @@ import com.goodda.jejuday.auth.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface SearchHistoryRepository extends JpaRepository<SearchHistory, Long> {
     // 특정 사용자의 기록을 최신순으로 페이징 조회
     Page<SearchHistory> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
-}
\ No newline at end of file
+
+    // 특정 사용자의 최근 검색어 (중복 포함, 최신순). 사용자 엔티티 로딩 없이 키워드만
+    @Query("SELECT h.keyword FROM SearchHistory h WHERE h.user.id = :userId ORDER BY h.createdAt DESC, h.id DESC")
+    List<String> findRecentKeywords(@Param("userId") Long userId, Pageable pageable);
+}
@@ -5,6 +5,7 @@ import com.goodda.jejuday.spot.entity.Spot.SpotType;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Page;
@@ -44,13 +45,31 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
 
     // 3) 좋아요순
     @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT s FROM Spot s WHERE s.type IN :types AND s.isDeleted = false ORDER BY s.createdAt DESC")
+    @Query("SELECT s FROM Spot s WHERE s.type IN :types AND s.isDeleted = false ORDER BY s.likeCount DESC, s.id DESC")
     Page<Spot> findByTypeInOrderByLikeCountDesc(
             Iterable<Spot.SpotType> types, Pageable pageable);
 
     // 트라이 초기화용: SPOT + CHALLENGE
     List<Spot> findAllByTypeIn(List<SpotType> types);
 
+    // 검색 인덱스 적재용: 지도 노출 스팟의 [id, name, likeCount, viewCount] 만 (엔티티 로딩 없이)
+    @Query("""
+        SELECT s.id, s.name, s.likeCount, s.viewCount FROM Spot s
+        WHERE s.type IN :types
+        AND (s.isDeleted = false OR s.isDeleted IS NULL)
+        AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL
+    """)
+    List<Object[]> findSearchRowsByTypeIn(@Param("types") List<SpotType> types);
+
+    // 클러스터 대표 가중치 갱신용: 지도 노출 스팟의 [id, likeCount] 만
+    @Query("""
+        SELECT s.id, s.likeCount FROM Spot s
+        WHERE s.type IN :types
+        AND (s.isDeleted = false OR s.isDeleted IS NULL)
+        AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL
+    """)
+    List<Object[]> findLikeCountsByTypeIn(@Param("types") List<SpotType> types);
+
     // 커뮤니티 검색: 이름 포함 + 타입 필터링
     Page<Spot> findByNameContainingIgnoreCaseAndTypeIn(String name, List<SpotType> types, Pageable pageable);
 
@@ -64,6 +83,44 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
     @Query("SELECT s FROM Spot s JOIN FETCH s.user WHERE s.type IN :types ORDER BY s.likeCount DESC")
     Page<Spot> findByTypeInOrderByLikeCountDescWithUser(@Param("types") Iterable<Spot.SpotType> types, Pageable pageable);
 
+    // 커서(keyset) 페이지: (정렬 키, id) 보다 뒤에 오는 행부터 size 개. COUNT 쿼리 없음.
+    @Query("""
+        SELECT s FROM Spot s JOIN FETCH s.user
+        WHERE s.type IN :types AND s.isDeleted = false
+          AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id))
+        ORDER BY s.createdAt DESC, s.id DESC
+    """)
+    List<Spot> findByTypeInOrderByCreatedAtDescWithUserAfter(@Param("types") Iterable<Spot.SpotType> types,
+                                                             @Param("createdAt") LocalDateTime createdAt,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    @Query("""
+        SELECT s FROM Spot s JOIN FETCH s.user
+        WHERE s.type IN :types AND s.isDeleted = false
+          AND (s.viewCount < :viewCount OR (s.viewCount = :viewCount AND s.id < :id))
+        ORDER BY s.viewCount DESC, s.id DESC
+    """)
+    List<Spot> findByTypeInOrderByViewCountDescWithUserAfter(@Param("types") Iterable<Spot.SpotType> types,
+                                                             @Param("viewCount") Integer viewCount,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    @Query("""
+        SELECT s FROM Spot s JOIN FETCH s.user
+        WHERE s.type IN :types AND s.isDeleted = false
+          AND (s.likeCount < :likeCount OR (s.likeCount = :likeCount AND s.id < :id))
+        ORDER BY s.likeCount DESC, s.id DESC
+    """)
+    List<Spot> findByTypeInOrderByLikeCountDescWithUserAfter(@Param("types") Iterable<Spot.SpotType> types,
+                                                             @Param("likeCount") Integer likeCount,
+                                                             @Param("id") Long id,
+                                                             Pageable pageable);
+
+    // 피드 id 목록 → 엔티티 일괄 조회 (순서는 호출 측에서 맞춤)
+    @Query("SELECT s FROM Spot s JOIN FETCH s.user WHERE s.id IN :ids")
+    List<Spot> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
     // 승격 프로세스용 - 삭제되지 않은 모든 스팟을 사용자 정보와 함께 조회
     @Query("SELECT s FROM Spot s JOIN FETCH s.user WHERE s.isDeleted = false OR s.isDeleted IS NULL")
     List<Spot> findAllActiveSpotsWithUser();
@@ -141,9 +198,14 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
     @Query("SELECT s FROM Spot s WHERE s.user.id = :userId AND (s.isDeleted = false OR s.isDeleted IS NULL) ORDER BY s.viewCount DESC")
     Page<Spot> findByUserIdOrderByViewCountDesc(@Param("userId") Long userId, Pageable pageable);
     
-    // 사용자가 작성한 게시글 조회 - 댓글 많은 순 (댓글 수는 서비스 레이어에서 계산)
+    // 사용자가 작성한 게시글 조회 - 댓글 많은 순
     @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT s FROM Spot s WHERE s.user.id = :userId AND (s.isDeleted = false OR s.isDeleted IS NULL) ORDER BY s.createdAt DESC")
-    Page<Spot> findByUserIdOrderByCreatedAtDescForCommentSort(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT s FROM Spot s WHERE s.user.id = :userId AND (s.isDeleted = false OR s.isDeleted IS NULL) ORDER BY s.replyCount DESC, s.id DESC")
+    Page<Spot> findByUserIdOrderByReplyCountDesc(@Param("userId") Long userId, Pageable pageable);
+
+    // 댓글 수 증감. 엔티티 저장과 겹쳐도 유실되지 않도록 컬럼만 원자적으로 갱신 (reply_count 는 updatable = false)
+    @Modifying
+    @Query(value = "UPDATE spot SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :spotId", nativeQuery = true)
+    int adjustReplyCount(@Param("spotId") Long spotId, @Param("delta") int delta);
 
 }
\ No newline at end of file
@@ -0,0 +1,387 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 불변 배열 기반 자동완성 트라이.
+ * - 노드는 BFS 순서로 번호를 매겨 자식들이 연속 구간에 놓이며, 자식 탐색은 라벨 이진 탐색.
+ * - 이름순으로 정렬된 id 배열에서 각 노드의 하위 트리는 연속 구간 [rangeStart, rangeEnd) 이다.
+ * - 노드별로 인기순 상위 K개를 미리 계산해 (정렬 배열 인덱스) int[] 에 연속 저장한다.
+ * 변경은 새로 빌드해서 교체한다.
+ */
+public final class CompactSpotTrie {
+
+    public static final int DEFAULT_TOP_K = 20;
+
+    private final int topK;
+
+    // 노드별 (BFS 순서)
+    private final char[] labels;
+    private final int[] childStart;   // 길이 nodeCount + 1
+    private final int[] rangeStart;
+    private final int[] rangeEnd;
+    private final int[] postingStart; // 길이 nodeCount + 1
+
+    // 이름순 정렬된 id / 인기순 상위 K postings (sortedIds 인덱스)
+    private final long[] sortedIds;
+    private final double[] sortedPopularity;
+    private final int[] postings;
+
+    private CompactSpotTrie(int topK, char[] labels, int[] childStart, int[] rangeStart, int[] rangeEnd,
+                            int[] postingStart, long[] sortedIds, double[] sortedPopularity, int[] postings) {
+        this.topK = topK;
+        this.labels = labels;
+        this.childStart = childStart;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.postingStart = postingStart;
+        this.sortedIds = sortedIds;
+        this.sortedPopularity = sortedPopularity;
+        this.postings = postings;
+    }
+
+    public record Hit(long spotId, double popularity) {}
+
+    /** 오타 허용 검색 결과. distance 는 검색어와 이름 prefix 사이의 편집 거리 */
+    public record FuzzyHit(long spotId, double popularity, int distance) {}
+
+    public static Builder builder() {
+        return new Builder(DEFAULT_TOP_K);
+    }
+
+    public static Builder builder(int topK) {
+        return new Builder(topK);
+    }
+
+    public static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /** prefix 로 시작하는 스팟 중 인기순 상위 k개 id */
+    public long[] topK(String prefix, int k) {
+        int[] idx = topIndexes(prefix, k);
+        long[] out = new long[idx.length];
+        for (int i = 0; i < idx.length; i++) out[i] = sortedIds[idx[i]];
+        return out;
+    }
+
+    /** topK 와 같고 인기도 점수를 함께 반환 */
+    public List<Hit> topHits(String prefix, int k) {
+        int[] idx = topIndexes(prefix, k);
+        List<Hit> out = new ArrayList<>(idx.length);
+        for (int i : idx) out.add(new Hit(sortedIds[i], sortedPopularity[i]));
+        return out;
+    }
+
+    /** prefix 로 시작하는 스팟 id (이름순, 최대 limit 개) */
+    public long[] candidates(String prefix, int limit) {
+        int node = find(prefix);
+        if (node <= 0 || limit <= 0) return new long[0];
+        int from = rangeStart[node];
+        return Arrays.copyOfRange(sortedIds, from, Math.min(rangeEnd[node], from + limit));
+    }
+
+    /**
+     * 편집 거리 maxEdits 이내로 검색어와 일치하는 prefix 를 가진 스팟 (거리 → 인기순, 최대 limit 개).
+     * 트라이를 BFS 로 내려가며 노드마다 편집 거리 DP 한 행만 계산하고(레벤슈타인 오토마톤),
+     * 행의 최솟값이 maxEdits 를 넘으면 하위 트리를 버린다. 방문 노드 수나 마감 시각을 넘으면 그때까지의 결과만 반환.
+     */
+    public List<FuzzyHit> fuzzyPrefix(String query, int maxEdits, int limit, int maxNodes, long deadlineNanos) {
+        String q = normalize(query);
+        int m = q.length();
+        if (m == 0 || limit <= 0 || labels.length <= 1) return List.of();
+
+        // 거리별로 조건을 만족한 노드 (하위 트리 전체가 같은 거리 이하로 매칭)
+        List<List<Integer>> accepted = new ArrayList<>();
+        for (int d = 0; d <= maxEdits; d++) accepted.add(new ArrayList<>());
+
+        int[] rootRow = new int[m + 1];
+        for (int j = 0; j <= m; j++) rootRow[j] = j;
+        ArrayDeque<Integer> nodes = new ArrayDeque<>();
+        ArrayDeque<int[]> rows = new ArrayDeque<>();
+        nodes.add(0);
+        rows.add(rootRow);
+        int visited = 0;
+        while (!nodes.isEmpty()) {
+            int node = nodes.poll();
+            int[] row = rows.poll();
+            for (int child = childStart[node]; child < childStart[node + 1]; child++) {
+                if (++visited > maxNodes || ((visited & 0xff) == 0 && System.nanoTime() > deadlineNanos)) {
+                    return collectFuzzy(accepted, limit);
+                }
+                int[] next = nextRow(row, q, labels[child]);
+                if (next[m] <= maxEdits) accepted.get(next[m]).add(child);
+                if (min(next) <= maxEdits) {
+                    nodes.add(child);
+                    rows.add(next);
+                }
+            }
+        }
+        return collectFuzzy(accepted, limit);
+    }
+
+    /** 이름의 prefix 중 검색어와 가장 가까운 것의 편집 거리. maxEdits 를 넘으면 maxEdits + 1 */
+    public static int prefixDistance(String name, String query, int maxEdits) {
+        String q = normalize(query);
+        int m = q.length();
+        int[] row = new int[m + 1];
+        for (int j = 0; j <= m; j++) row[j] = j;
+        int best = row[m];
+        for (int i = 0; i < name.length() && min(row) <= maxEdits; i++) {
+            row = nextRow(row, q, name.charAt(i));
+            best = Math.min(best, row[m]);
+        }
+        return Math.min(best, maxEdits + 1);
+    }
+
+    /** candidates 와 같고 인기도 점수를 함께 반환 */
+    public List<Hit> candidateHits(String prefix, int limit) {
+        int node = find(prefix);
+        if (node <= 0 || limit <= 0) return List.of();
+        int from = rangeStart[node], to = Math.min(rangeEnd[node], from + limit);
+        List<Hit> out = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) out.add(new Hit(sortedIds[i], sortedPopularity[i]));
+        return out;
+    }
+
+    /** prefix 로 시작하는 스팟 수 */
+    public int count(String prefix) {
+        int node = find(prefix);
+        return node < 0 ? 0 : rangeEnd[node] - rangeStart[node];
+    }
+
+    public int size() {
+        return sortedIds.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    /** 배열 크기 기준 대략적인 메모리 사용량 (byte) */
+    public long estimatedBytes() {
+        return (long) labels.length * Character.BYTES
+                + (long) (childStart.length + rangeStart.length + rangeEnd.length + postingStart.length
+                        + postings.length) * Integer.BYTES
+                + (long) sortedIds.length * Long.BYTES
+                + (long) sortedPopularity.length * Double.BYTES;
+    }
+
+    // ----- 내부 -----
+    private static int[] nextRow(int[] row, String q, char c) {
+        int[] next = new int[row.length];
+        next[0] = row[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int substitute = row[j - 1] + (q.charAt(j - 1) == c ? 0 : 1);
+            next[j] = Math.min(substitute, Math.min(row[j], next[j - 1]) + 1);
+        }
+        return next;
+    }
+
+    private static int min(int[] row) {
+        int min = Integer.MAX_VALUE;
+        for (int v : row) min = Math.min(min, v);
+        return min;
+    }
+
+    // 거리가 작은 노드부터 하위 트리의 인기순 상위를 모음 (이미 더 가까운 거리로 나온 스팟은 건너뜀)
+    private List<FuzzyHit> collectFuzzy(List<List<Integer>> accepted, int limit) {
+        List<FuzzyHit> out = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int d = 0; d < accepted.size() && out.size() < limit; d++) {
+            List<FuzzyHit> level = new ArrayList<>();
+            for (int node : accepted.get(d)) {
+                int from = postingStart[node], to = postingStart[node + 1];
+                for (int p = from; p < to; p++) {
+                    int i = postings[p];
+                    if (seen.add(sortedIds[i])) level.add(new FuzzyHit(sortedIds[i], sortedPopularity[i], d));
+                }
+            }
+            level.sort(Comparator.comparingDouble(FuzzyHit::popularity).reversed()
+                    .thenComparingLong(FuzzyHit::spotId));
+            for (FuzzyHit h : level) {
+                if (out.size() == limit) break;
+                out.add(h);
+            }
+        }
+        return out;
+    }
+
+    private int[] topIndexes(String prefix, int k) {
+        int node = find(prefix);
+        if (node <= 0 || k <= 0) return new int[0]; // 빈 prefix(루트)는 검색하지 않음
+
+        int from = postingStart[node], to = postingStart[node + 1];
+        int stored = to - from;
+        int total = rangeEnd[node] - rangeStart[node];
+        if (k <= stored || stored == total) {
+            return Arrays.copyOfRange(postings, from, from + Math.min(k, stored));
+        }
+        // 미리 계산한 K개보다 많이 요청한 경우만 구간 전체에서 선택
+        return selectTop(rangeStart[node], rangeEnd[node], k);
+    }
+
+    private int find(String prefix) {
+        String p = normalize(prefix);
+        int node = 0;
+        for (int i = 0; i < p.length(); i++) {
+            node = child(node, p.charAt(i));
+            if (node < 0) return -1;
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        int lo = childStart[node], hi = childStart[node + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = labels[mid];
+            if (m < c) lo = mid + 1;
+            else if (m > c) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private int[] selectTop(int from, int to, int k) {
+        Integer[] idx = new Integer[to - from];
+        for (int i = 0; i < idx.length; i++) idx[i] = from + i;
+        Arrays.sort(idx, popularityOrder(sortedIds, sortedPopularity));
+        int[] out = new int[Math.min(k, idx.length)];
+        for (int i = 0; i < out.length; i++) out[i] = idx[i];
+        return out;
+    }
+
+    // 인기 내림차순, 같으면 id 오름차순
+    private static Comparator<Integer> popularityOrder(long[] ids, double[] popularity) {
+        return (a, b) -> {
+            int c = Double.compare(popularity[b], popularity[a]);
+            return c != 0 ? c : Long.compare(ids[a], ids[b]);
+        };
+    }
+
+    public static final class Builder {
+        private final int topK;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private record Entry(String name, long id, double popularity) {}
+
+        private Builder(int topK) {
+            if (topK <= 0) throw new IllegalArgumentException("topK 는 1 이상이어야 합니다.");
+            this.topK = topK;
+        }
+
+        public Builder add(long spotId, String name, double popularity) {
+            String n = normalize(name);
+            if (!n.isEmpty()) entries.add(new Entry(n, spotId, popularity));
+            return this;
+        }
+
+        public CompactSpotTrie build() {
+            entries.sort(Comparator.comparing(Entry::name).thenComparingLong(Entry::id));
+            int n = entries.size();
+            String[] names = new String[n];
+            long[] ids = new long[n];
+            double[] pop = new double[n];
+            for (int i = 0; i < n; i++) {
+                Entry e = entries.get(i);
+                names[i] = e.name();
+                ids[i] = e.id();
+                pop[i] = e.popularity();
+            }
+
+            // BFS: 노드 = (깊이, 이름순 구간). 자식은 구간을 깊이 위치의 문자로 나눈 것
+            CharList labels = new CharList();
+            IntList depth = new IntList(), lo = new IntList(), hi = new IntList(), childStart = new IntList();
+            labels.add('\0');
+            depth.add(0);
+            lo.add(0);
+            hi.add(n);
+            for (int node = 0; node < lo.size; node++) {
+                childStart.add(lo.size);
+                int d = depth.get(node), i = lo.get(node), end = hi.get(node);
+                while (i < end && names[i].length() == d) i++; // 여기서 끝나는 이름 (정렬상 앞쪽)
+                while (i < end) {
+                    char c = names[i].charAt(d);
+                    int j = i + 1;
+                    while (j < end && names[j].charAt(d) == c) j++;
+                    labels.add(c);
+                    depth.add(d + 1);
+                    lo.add(i);
+                    hi.add(j);
+                    i = j;
+                }
+            }
+            int nodeCount = lo.size;
+            childStart.add(nodeCount);
+
+            // 노드별 인기순 상위 K
+            int[] postingStart = new int[nodeCount + 1];
+            IntList postings = new IntList();
+            Comparator<Integer> order = popularityOrder(ids, pop);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(topK + 1, order.reversed());
+            Integer[] buf = new Integer[topK];
+            for (int node = 0; node < nodeCount; node++) {
+                postingStart[node] = postings.size;
+                if (node == 0) continue; // 빈 prefix 는 검색하지 않음
+                heap.clear();
+                for (int i = lo.get(node); i < hi.get(node); i++) {
+                    heap.add(i);
+                    if (heap.size() > topK) heap.poll();
+                }
+                int m = heap.size();
+                for (int i = m - 1; i >= 0; i--) buf[i] = heap.poll();
+                for (int i = 0; i < m; i++) postings.add(buf[i]);
+            }
+            postingStart[nodeCount] = postings.size;
+
+            return new CompactSpotTrie(topK, labels.toArray(), childStart.toArray(),
+                    lo.toArray(), hi.toArray(), postingStart, ids, pop, postings.toArray());
+        }
+    }
+
+    // ----- 빌드용 원시 배열 리스트 -----
+    private static final class IntList {
+        int[] a = new int[64];
+        int size;
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        int get(int i) {
+            return a[i];
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, size);
+        }
+    }
+
+    private static final class CharList {
+        char[] a = new char[64];
+        int size;
+
+        void add(char v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        char[] toArray() {
+            return Arrays.copyOf(a, size);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.goodda.jejuday.spot.search;
+
+/**
+ * 한글 음절 분해 유틸.
+ * 음절(가~힣)을 호환 자모(ㄱ, ㅏ ...)로 풀고, 겹받침/겹모음은 자판 입력 순서대로 나눈다 (ㄺ → ㄹㄱ, ㅘ → ㅗㅏ).
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+            "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 호환 자모 자음 (ㄱ~ㅎ) */
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /** 호환 자모 (자음 + 모음, ㄱ~ㅣ) */
+    public static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    /** 음절의 초성. 음절이 아니면 그대로 */
+    public static char chosung(char c) {
+        if (!isSyllable(c)) return c;
+        return CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)];
+    }
+
+    /** 문자열의 음절을 초성으로 바꾼 키 ("성산일출봉" → "ㅅㅅㅇㅊㅂ") */
+    public static String chosungKey(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) sb.append(chosung(s.charAt(i)));
+        return sb.toString();
+    }
+
+    /** 음절 하나를 자판 입력 순서의 자모열로 ("닭" → "ㄷㅏㄹㄱ"). 음절이 아니면 그대로 */
+    public static String decompose(char c) {
+        if (!isSyllable(c)) return String.valueOf(c);
+        int code = c - SYLLABLE_BEGIN;
+        int cho = code / (JUNG_COUNT * JONG_COUNT);
+        int jung = code % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT;
+        int jong = code % JONG_COUNT;
+        return CHO[cho] + JUNG[jung] + JONG[jong];
+    }
+
+    /** 문자열 전체를 자모열로 */
+    public static String decompose(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) sb.append(decompose(s.charAt(i)));
+        return sb.toString();
+    }
+
+    /** 앞에서부터 연속된 음절 수 */
+    public static int leadingSyllables(String s) {
+        int n = 0;
+        while (n < s.length() && isSyllable(s.charAt(n))) n++;
+        return n;
+    }
+
+    public static boolean containsSyllable(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isSyllable(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    public static boolean containsJamo(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (isJamo(s.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 입력 중인 검색어가 name 의 접두어로 볼 수 있는지.
+     * 자음 단독 입력은 해당 위치 음절의 초성과, 마지막 음절은 자모 단위 접두어로 비교한다
+     * ("성ㅅ", "ㅅ산", "성사" 모두 "성산일출봉" 에 매칭).
+     */
+    public static boolean matchesPrefix(String name, String query) {
+        if (query.length() > name.length()) return false;
+        int last = query.length() - 1;
+        for (int i = 0; i <= last; i++) {
+            char q = query.charAt(i);
+            char n = name.charAt(i);
+            if (q == n) continue;
+            if (isConsonant(q) && isSyllable(n) && chosung(n) == q) continue;
+            if (i == last && isSyllable(q) && isSyllable(n) && syllableStartsWith(n, q)) continue;
+            return false;
+        }
+        return true;
+    }
+
+    // decompose(n).startsWith(decompose(q)) 와 같지만 문자열을 만들지 않는다 (후보 검증 루프에서 호출)
+    private static boolean syllableStartsWith(char n, char q) {
+        int nc = n - SYLLABLE_BEGIN;
+        int qc = q - SYLLABLE_BEGIN;
+        if (nc / (JUNG_COUNT * JONG_COUNT) != qc / (JUNG_COUNT * JONG_COUNT)) return false;
+        int nJung = nc % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT;
+        int qJung = qc % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT;
+        int qJong = qc % JONG_COUNT;
+        // 받침 없는 입력은 모음까지만 (도 → 돠, 돌)
+        if (qJong == 0) return JUNG[nJung].startsWith(JUNG[qJung]);
+        return nJung == qJung && JONG[nc % JONG_COUNT].startsWith(JONG[qJong]);
+    }
+}
@@ -0,0 +1,230 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 마커 클러스터 인덱스 (쿼드트리 격자 피라미드).
+ * 레벨 z 의 격자는 타일 한 변을 4칸으로 나눈 크기이며, (x, y) 의 부모는 (x >> 1, y >> 1).
+ * 스팟 하나가 바뀌면 최하위 격자부터 루트 방향으로 경로상의 클러스터만 다시 집계한다.
+ */
+public class SpotClusterIndex {
+
+    public static final int MIN_ZOOM = 5;
+    public static final int MAX_ZOOM = 18;
+    private static final int CELLS_PER_TILE_BITS = 2; // 타일당 4x4 격자 (256px 타일 기준 64px)
+    private static final long MAX_CELLS_PER_QUERY = 2048; // 화면 크기와 줌이 맞지 않는 요청 방어
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 스팟별 현재 위치/가중치
+    private final Map<Long, Member> members = new HashMap<>();
+    // 최하위 레벨 격자 → 소속 스팟 id
+    private final Map<Long, List<Long>> leafMembers = new HashMap<>();
+    // 레벨별 격자 → 집계 결과
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Cluster>[] levels = new Map[MAX_ZOOM + 1];
+
+    public SpotClusterIndex() {
+        for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+            levels[z] = new HashMap<>();
+        }
+    }
+
+    public record Cluster(double latitude, double longitude, int count, long representativeId) {}
+
+    private record Member(double lat, double lng, double weight, long leafKey) {}
+
+    /** 추가 또는 갱신. weight 가 가장 큰 스팟이 클러스터 대표가 된다. */
+    public void upsert(long spotId, double lat, double lng, double weight) {
+        lock.writeLock().lock();
+        try {
+            Member old = members.get(spotId);
+            long leafKey = cellKey(MAX_ZOOM, lat, lng);
+            members.put(spotId, new Member(lat, lng, weight, leafKey));
+
+            if (old != null && old.leafKey() != leafKey) {
+                leafMembers.get(old.leafKey()).remove(Long.valueOf(spotId));
+                rebuildPath(old.leafKey());
+            }
+            if (old == null || old.leafKey() != leafKey) {
+                leafMembers.computeIfAbsent(leafKey, k -> new ArrayList<>()).add(spotId);
+            }
+            rebuildPath(leafKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 위치는 그대로 두고 가중치만 일괄 갱신 (좋아요 수 주기 반영용).
+     * 인덱스에 없는 스팟은 무시하고, 가중치가 바뀐 스팟이 속한 최하위 격자 경로만 한 번씩 다시 집계한다.
+     */
+    public void updateWeights(Map<Long, Double> weights) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> dirtyLeaves = new HashSet<>();
+            weights.forEach((spotId, weight) -> {
+                Member old = members.get(spotId);
+                if (old == null || old.weight() == weight) return;
+                members.put(spotId, new Member(old.lat(), old.lng(), weight, old.leafKey()));
+                dirtyLeaves.add(old.leafKey());
+            });
+            dirtyLeaves.forEach(this::rebuildPath);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long spotId) {
+        lock.writeLock().lock();
+        try {
+            Member old = members.remove(spotId);
+            if (old == null) return;
+            leafMembers.get(old.leafKey()).remove(Long.valueOf(spotId));
+            rebuildPath(old.leafKey());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            members.clear();
+            leafMembers.clear();
+            for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+                levels[z].clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 화면 영역(bbox) 안의 클러스터 목록. 응답 크기는 화면 격자 수에 비례하고 스팟 수와 무관하다. */
+    public List<Cluster> query(double swLat, double swLng, double neLat, double neLng, int zoom) {
+        int z = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        int minX, maxX, minY, maxY;
+        while (true) {
+            minX = cellX(z, swLng);
+            maxX = cellX(z, neLng);
+            minY = cellY(z, neLat); // 메르카토르 y 는 북쪽이 작음
+            maxY = cellY(z, swLat);
+            // 격자 수가 상한을 넘으면 한 단계 낮은 줌으로 집계
+            if (z == MIN_ZOOM || (long) (maxX - minX + 1) * (maxY - minY + 1) <= MAX_CELLS_PER_QUERY) break;
+            z--;
+        }
+
+        List<Cluster> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cluster> level = levels[z];
+            long range = (long) (maxX - minX + 1) * (maxY - minY + 1);
+            if (range > level.size()) {
+                // 요청 범위가 실제 클러스터 수보다 넓으면 클러스터 쪽을 순회
+                for (Map.Entry<Long, Cluster> e : level.entrySet()) {
+                    int x = (int) (e.getKey() >> 32), y = (int) (long) e.getKey();
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) result.add(e.getValue());
+                }
+            } else {
+                for (int x = minX; x <= maxX; x++) {
+                    for (int y = minY; y <= maxY; y++) {
+                        Cluster c = level.get(pack(x, y));
+                        if (c != null) result.add(c);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // ----- 집계 -----
+    private void rebuildPath(long leafKey) {
+        // 최하위 레벨: 소속 스팟으로 직접 집계
+        List<Long> ids = leafMembers.get(leafKey);
+        if (ids == null || ids.isEmpty()) {
+            leafMembers.remove(leafKey);
+            levels[MAX_ZOOM].remove(leafKey);
+        } else {
+            levels[MAX_ZOOM].put(leafKey, aggregateMembers(ids));
+        }
+
+        // 상위 레벨: 자식 4칸의 집계를 다시 합침
+        int x = (int) (leafKey >> 32), y = (int) leafKey;
+        for (int z = MAX_ZOOM - 1; z >= MIN_ZOOM; z--) {
+            x >>= 1;
+            y >>= 1;
+            long key = pack(x, y);
+            Cluster merged = aggregateChildren(levels[z + 1], x, y);
+            if (merged == null) levels[z].remove(key);
+            else levels[z].put(key, merged);
+        }
+    }
+
+    private Cluster aggregateMembers(List<Long> ids) {
+        double sumLat = 0, sumLng = 0, bestWeight = Double.NEGATIVE_INFINITY;
+        long rep = -1;
+        for (Long id : ids) {
+            Member m = members.get(id);
+            sumLat += m.lat();
+            sumLng += m.lng();
+            if (m.weight() > bestWeight) {
+                bestWeight = m.weight();
+                rep = id;
+            }
+        }
+        return new Cluster(sumLat / ids.size(), sumLng / ids.size(), ids.size(), rep);
+    }
+
+    private Cluster aggregateChildren(Map<Long, Cluster> childLevel, int px, int py) {
+        int count = 0;
+        double sumLat = 0, sumLng = 0, bestWeight = Double.NEGATIVE_INFINITY;
+        long rep = -1;
+        for (int dx = 0; dx < 2; dx++) {
+            for (int dy = 0; dy < 2; dy++) {
+                Cluster c = childLevel.get(pack((px << 1) | dx, (py << 1) | dy));
+                if (c == null) continue;
+                count += c.count();
+                sumLat += c.latitude() * c.count();
+                sumLng += c.longitude() * c.count();
+                double w = members.get(c.representativeId()).weight();
+                if (w > bestWeight) {
+                    bestWeight = w;
+                    rep = c.representativeId();
+                }
+            }
+        }
+        if (count == 0) return null;
+        return new Cluster(sumLat / count, sumLng / count, count, rep);
+    }
+
+    // ----- 좌표 변환 (Web Mercator 타일 좌표) -----
+    private static long cellKey(int zoom, double lat, double lng) {
+        return pack(cellX(zoom, lng), cellY(zoom, lat));
+    }
+
+    private static int cellX(int zoom, double lng) {
+        double n = 1L << (zoom + CELLS_PER_TILE_BITS);
+        double x = (lng + 180.0) / 360.0 * n;
+        return (int) Math.max(0, Math.min(n - 1, Math.floor(x)));
+    }
+
+    private static int cellY(int zoom, double lat) {
+        double n = 1L << (zoom + CELLS_PER_TILE_BITS);
+        double clamped = Math.max(-85.05112878, Math.min(85.05112878, lat));
+        double rad = Math.toRadians(clamped);
+        double y = (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0 * n;
+        return (int) Math.max(0, Math.min(n - 1, Math.floor(y)));
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+}
@@ -0,0 +1,318 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고정 크기 격자(cell) 기반 위치 인덱스.
+ * 좌표는 slot 단위 원시 배열(long[]/double[])에 저장하고, 격자 → slot 목록으로 후보를 좁힌 뒤 거리 계산.
+ */
+public class SpotGridIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double DEFAULT_CELL_DEGREES = 0.01; // 위도 기준 약 1.1km
+
+    private final double cellDegrees;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // slot 배열 (삭제 시 마지막 slot 과 자리 교체)
+    private long[] ids = new long[256];
+    private double[] lats = new double[256];
+    private double[] lngs = new double[256];
+    private long[] cellKeys = new long[256];
+    private int size;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, IntBag> slotsByCell = new HashMap<>();
+
+    public SpotGridIndex() {
+        this(DEFAULT_CELL_DEGREES);
+    }
+
+    public SpotGridIndex(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    public record Hit(long spotId, double distanceKm) {}
+
+    /** 추가 또는 좌표 갱신 */
+    public void upsert(long spotId, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(spotId);
+            long cell = cellKey(lat, lng);
+            if (slot != null) {
+                lats[slot] = lat;
+                lngs[slot] = lng;
+                if (cellKeys[slot] != cell) {
+                    removeFromCell(cellKeys[slot], slot);
+                    cellKeys[slot] = cell;
+                    slotsByCell.computeIfAbsent(cell, k -> new IntBag()).add(slot);
+                }
+                return;
+            }
+            ensureCapacity(size + 1);
+            int s = size++;
+            ids[s] = spotId;
+            lats[s] = lat;
+            lngs[s] = lng;
+            cellKeys[s] = cell;
+            slotById.put(spotId, s);
+            slotsByCell.computeIfAbsent(cell, k -> new IntBag()).add(s);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long spotId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(spotId);
+            if (slot == null) return;
+            removeFromCell(cellKeys[slot], slot);
+
+            int last = --size;
+            if (slot != last) {
+                // 마지막 slot 을 빈 자리로 옮김
+                ids[slot] = ids[last];
+                lats[slot] = lats[last];
+                lngs[slot] = lngs[last];
+                cellKeys[slot] = cellKeys[last];
+                slotById.put(ids[slot], slot);
+                slotsByCell.get(cellKeys[slot]).replace(last, slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            slotById.clear();
+            slotsByCell.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경(km) 안의 스팟을 가까운 순으로 반환.
+     * 반경이 넓어 훑을 격자 수가 전체 스팟 수보다 많으면 격자 대신 slot 배열을 한 번 순회한다.
+     * 위경도 범위를 벗어난 좌표(NaN 포함)는 빈 결과.
+     */
+    public List<Hit> withinRadius(double lat, double lng, double radiusKm) {
+        if (!isValidCoordinate(lat, lng) || !(radiusKm >= 0)) return List.of(); // 음수, NaN
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lngDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        long minRow = cellIndex(lat - latDelta), maxRow = cellIndex(lat + latDelta);
+        long minCol = cellIndex(lng - lngDelta), maxCol = cellIndex(lng + lngDelta);
+        double cellCount = (double) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (cellCount > size) {
+                for (int s = 0; s < size; s++) {
+                    double d = haversineKm(lat, lng, lats[s], lngs[s]);
+                    if (d <= radiusKm) hits.add(new Hit(ids[s], d));
+                }
+            } else {
+                for (long r = minRow; r <= maxRow; r++) {
+                    for (long c = minCol; c <= maxCol; c++) {
+                        IntBag bag = slotsByCell.get(pack(r, c));
+                        if (bag == null) continue;
+                        for (int i = 0; i < bag.size; i++) {
+                            int s = bag.values[i];
+                            double d = haversineKm(lat, lng, lats[s], lngs[s]);
+                            if (d <= radiusKm) hits.add(new Hit(ids[s], d));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    /**
+     * 가장 가까운 k개 (maxRadiusKm 이내, 가까운 순).
+     * 기준점 격자에서 링 단위로 넓혀가며 최대 k개 힙을 유지하고, 다음 링까지의 최소 거리가 k번째 거리 이상이면 멈춘다.
+     * 훑을 격자 수가 전체 스팟 수를 넘어가면 남은 링 대신 slot 배열을 한 번 순회한다.
+     */
+    public List<Hit> nearest(double lat, double lng, int k, double maxRadiusKm) {
+        if (!isValidCoordinate(lat, lng) || k <= 0 || !(maxRadiusKm >= 0)) return List.of();
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(Hit::distanceKm).reversed());
+        long centerRow = cellIndex(lat), centerCol = cellIndex(lng);
+        double cosLat = Math.cos(Math.toRadians(lat));
+
+        lock.readLock().lock();
+        try {
+            long visitedCells = 0;
+            for (long ring = 0; ; ring++) {
+                long cells = ring == 0 ? 1 : 8 * ring;
+                if (visitedCells + cells > size) {
+                    heap.clear();
+                    for (int s = 0; s < size; s++) offer(heap, k, s, haversineKm(lat, lng, lats[s], lngs[s]), maxRadiusKm);
+                    break;
+                }
+                visitedCells += cells;
+                for (long r = centerRow - ring; r <= centerRow + ring; r++) {
+                    boolean edgeRow = r == centerRow - ring || r == centerRow + ring;
+                    long step = edgeRow ? 1 : 2 * ring;
+                    for (long c = centerCol - ring; c <= centerCol + ring; c += step) {
+                        IntBag bag = slotsByCell.get(pack(r, c));
+                        if (bag == null) continue;
+                        for (int i = 0; i < bag.size; i++) {
+                            int s = bag.values[i];
+                            offer(heap, k, s, haversineKm(lat, lng, lats[s], lngs[s]), maxRadiusKm);
+                        }
+                    }
+                }
+                double nextRingKm = ringGapKm(ring, cosLat);
+                if (nextRingKm > maxRadiusKm) break;
+                if (heap.size() == k && heap.peek().distanceKm() <= nextRingKm) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return result;
+    }
+
+    /** 기준점에서 각 스팟까지 거리(km). 인덱스에 없는 스팟은 NaN */
+    public double[] distancesKm(double lat, double lng, long[] spotIds) {
+        double[] out = new double[spotIds.length];
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < spotIds.length; i++) {
+                Integer slot = slotById.get(spotIds[i]);
+                out[i] = slot == null ? Double.NaN : haversineKm(lat, lng, lats[slot], lngs[slot]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return out;
+    }
+
+    /** 위도 -90~90, 경도 -180~180 (NaN 제외) */
+    public static boolean isValidCoordinate(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // ----- 내부 유틸 -----
+    // 격자 수 계산용 행/열 번호 (아주 넓은 반경에서도 넘치지 않도록 long)
+    private long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private void offer(PriorityQueue<Hit> heap, int k, int slot, double d, double maxRadiusKm) {
+        if (d > maxRadiusKm) return;
+        if (heap.size() < k) {
+            heap.add(new Hit(ids[slot], d));
+        } else if (d < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.add(new Hit(ids[slot], d));
+        }
+    }
+
+    /**
+     * ring 바깥 격자의 스팟까지 최소 거리(km).
+     * 경도 차가 ring 칸 이상인 점까지의 거리는 그 경도선(대원)까지의 거리 R·asin(cosφ·sinΔλ) 이상이고,
+     * 위도 차 쪽 하한 R·Δφ 는 항상 이보다 크다.
+     */
+    private double ringGapKm(long ring, double cosLat) {
+        double gapDegrees = Math.min(ring * cellDegrees, 90);
+        return EARTH_RADIUS_KM * Math.asin(Math.min(1.0, cosLat * Math.sin(Math.toRadians(gapDegrees))));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lng) {
+        return (int) Math.floor(lng / cellDegrees);
+    }
+
+    private long cellKey(double lat, double lng) {
+        return pack(row(lat), col(lng));
+    }
+
+    private static long pack(long row, long col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    private void removeFromCell(long cell, int slot) {
+        IntBag bag = slotsByCell.get(cell);
+        if (bag == null) return;
+        bag.remove(slot);
+        if (bag.size == 0) slotsByCell.remove(cell);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) return;
+        int cap = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, cap);
+        lats = Arrays.copyOf(lats, cap);
+        lngs = Arrays.copyOf(lngs, cap);
+        cellKeys = Arrays.copyOf(cellKeys, cap);
+    }
+
+    /** 격자 하나에 속한 slot 번호 목록 */
+    private static final class IntBag {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        void remove(int v) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == v) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+
+        void replace(int from, int to) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == from) {
+                    values[i] = to;
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 초성/자모 단위 자동완성 인덱스.
+ * 검색어 모양별로 prefix 한 번에 답할 수 있는 키를 따로 색인해 두고, 각각 인기순 상위 K 를 그대로 꺼낸다.
+ * <ul>
+ *   <li>초성만 ("ㅅㅅㅇ") → 초성 키 "ㅅㅅㅇㅊㅂ"</li>
+ *   <li>음절만, 마지막 음절 입력 중 포함 ("성사") → 자모 분해 키 "ㅅㅓㅇㅅㅏㄴ..."</li>
+ *   <li>음절 1~2개 + 초성 ("성ㅅ", "성산ㅇㅊ") → 앞 n음절 + 나머지 초성 키 "성ㅅㅇㅊㅂ", "성산ㅇㅊㅂ"</li>
+ * </ul>
+ * 그 외 모양("ㅅ산", 음절 3개 이상 + 초성)은 후보를 최대 candidateCap 개까지 원래 이름으로 검증한다.
+ */
+public class SpotJamoIndex {
+
+    // 검증 경로에서 볼 최대 후보 수 (지연 상한)
+    public static final int DEFAULT_CANDIDATE_CAP = 5_000;
+    // 음절 + 초성 키를 미리 만들어 둘 앞 음절 수
+    private static final int SPLIT_KEYS = 2;
+
+    private static final Comparator<CompactSpotTrie.Hit> BY_POPULARITY =
+            Comparator.comparingDouble(CompactSpotTrie.Hit::popularity).reversed()
+                    .thenComparingLong(CompactSpotTrie.Hit::spotId);
+
+    private final SpotSearchIndex chosungIndex;
+    private final SpotSearchIndex jamoIndex;
+    private final SpotSearchIndex[] splitIndexes = new SpotSearchIndex[SPLIT_KEYS + 1];
+    private final int candidateCap;
+    // id → 정규화한 원래 이름 (검증용)
+    private final Map<Long, SpotSearchIndex.Entry> entries = new ConcurrentHashMap<>();
+
+    public SpotJamoIndex(int topK, int rebuildThreshold, Executor rebuildExecutor) {
+        this(topK, rebuildThreshold, rebuildExecutor, DEFAULT_CANDIDATE_CAP);
+    }
+
+    public SpotJamoIndex(int topK, int rebuildThreshold, Executor rebuildExecutor, int candidateCap) {
+        this.chosungIndex = new SpotSearchIndex(topK, rebuildThreshold, rebuildExecutor);
+        this.jamoIndex = new SpotSearchIndex(topK, rebuildThreshold, rebuildExecutor);
+        for (int s = 1; s <= SPLIT_KEYS; s++) {
+            splitIndexes[s] = new SpotSearchIndex(topK, rebuildThreshold, rebuildExecutor);
+        }
+        this.candidateCap = candidateCap;
+    }
+
+    /** 초성/자모 혼합 검색어에 맞는 스팟 중 인기순 상위 k개 */
+    public List<CompactSpotTrie.Hit> topK(String query, int k) {
+        return lookup(query, k, true);
+    }
+
+    /** 검색어에 맞는 스팟 (순서 없음, 최대 limit 개) */
+    public List<CompactSpotTrie.Hit> candidateHits(String query, int limit) {
+        return lookup(query, limit, false);
+    }
+
+    /** spotId 의 이름이 검색어에 맞으면 인기도와 함께 반환, 아니면 null (다른 인덱스에서 고른 후보를 거를 때) */
+    public CompactSpotTrie.Hit match(long spotId, String query) {
+        String q = CompactSpotTrie.normalize(query);
+        SpotSearchIndex.Entry e = entries.get(spotId);
+        if (q.isEmpty() || e == null || !HangulJamo.matchesPrefix(e.name(), q)) return null;
+        return new CompactSpotTrie.Hit(spotId, e.popularity());
+    }
+
+    /**
+     * 오타 허용 검색. 자모 단위 편집 거리로 비교하므로 "성산일츌" 처럼 모음 하나 틀린 경우가 거리 1 이다.
+     * 방문 노드 수(maxNodes)와 마감 시각(deadlineNanos) 안에서 찾은 결과만 반환한다.
+     */
+    public List<CompactSpotTrie.FuzzyHit> fuzzy(String query, int maxEdits, int limit, int maxNodes, long deadlineNanos) {
+        String q = CompactSpotTrie.normalize(query);
+        if (q.isEmpty() || limit <= 0) return List.of();
+        return jamoIndex.fuzzy(HangulJamo.decompose(q), maxEdits, limit, maxNodes, deadlineNanos);
+    }
+
+    public int size() {
+        return chosungIndex.size();
+    }
+
+    /** 전체 교체. 이름은 정규화된 값이어야 한다. */
+    public synchronized void load(Map<Long, SpotSearchIndex.Entry> all) {
+        List<Map<Long, SpotSearchIndex.Entry>> keyed = new ArrayList<>();
+        for (int i = 0; i < SPLIT_KEYS + 2; i++) keyed.add(new HashMap<>(all.size() * 2));
+        for (Map.Entry<Long, SpotSearchIndex.Entry> e : all.entrySet()) {
+            String name = e.getValue().name();
+            double popularity = e.getValue().popularity();
+            keyed.get(0).put(e.getKey(), new SpotSearchIndex.Entry(HangulJamo.chosungKey(name), popularity));
+            keyed.get(1).put(e.getKey(), new SpotSearchIndex.Entry(HangulJamo.decompose(name), popularity));
+            for (int s = 1; s <= SPLIT_KEYS; s++) {
+                keyed.get(s + 1).put(e.getKey(), new SpotSearchIndex.Entry(splitKey(name, s), popularity));
+            }
+        }
+        entries.putAll(all);
+        entries.keySet().retainAll(all.keySet());
+        chosungIndex.load(keyed.get(0));
+        jamoIndex.load(keyed.get(1));
+        for (int s = 1; s <= SPLIT_KEYS; s++) splitIndexes[s].load(keyed.get(s + 1));
+    }
+
+    public synchronized void upsert(long spotId, String name, double popularity) {
+        String n = CompactSpotTrie.normalize(name);
+        if (n.isEmpty()) {
+            remove(spotId);
+            return;
+        }
+        entries.put(spotId, new SpotSearchIndex.Entry(n, popularity));
+        chosungIndex.upsert(spotId, HangulJamo.chosungKey(n), popularity);
+        jamoIndex.upsert(spotId, HangulJamo.decompose(n), popularity);
+        for (int s = 1; s <= SPLIT_KEYS; s++) splitIndexes[s].upsert(spotId, splitKey(n, s), popularity);
+    }
+
+    public synchronized void remove(long spotId) {
+        entries.remove(spotId);
+        chosungIndex.remove(spotId);
+        jamoIndex.remove(spotId);
+        for (int s = 1; s <= SPLIT_KEYS; s++) splitIndexes[s].remove(spotId);
+    }
+
+    private List<CompactSpotTrie.Hit> lookup(String query, int k, boolean ranked) {
+        String q = CompactSpotTrie.normalize(query);
+        if (q.isEmpty() || k <= 0) return List.of();
+
+        // 키 prefix 일치 = 검색어 일치인 모양은 해당 키 인덱스에서 바로
+        if (!HangulJamo.containsSyllable(q)) {
+            return fromKeyIndex(chosungIndex, HangulJamo.chosungKey(q), k, ranked);
+        }
+        if (!HangulJamo.containsJamo(q)) {
+            return fromKeyIndex(jamoIndex, HangulJamo.decompose(q), k, ranked);
+        }
+        int s = HangulJamo.leadingSyllables(q);
+        boolean syllablesThenChosung = s > 0 && !HangulJamo.containsSyllable(q.substring(s));
+        if (syllablesThenChosung && s <= SPLIT_KEYS) {
+            return fromKeyIndex(splitIndexes[s], q, k, ranked);
+        }
+
+        long[] candidates = syllablesThenChosung
+                // 앞 음절이 충분히 길면 자모 분해 키 범위가 좁음
+                ? jamoIndex.candidates(HangulJamo.decompose(q.substring(0, s)), candidateCap)
+                : chosungIndex.candidates(HangulJamo.chosungKey(q), candidateCap);
+        return ranked ? verifyTop(candidates, q, k) : verifyAll(candidates, q, k);
+    }
+
+    private static List<CompactSpotTrie.Hit> fromKeyIndex(SpotSearchIndex keyIndex, String key, int k, boolean ranked) {
+        return ranked ? keyIndex.topK(key, k) : keyIndex.candidateHits(key, k);
+    }
+
+    // 앞 s글자는 그대로, 나머지는 초성
+    private static String splitKey(String name, int s) {
+        if (name.length() <= s) return name;
+        return name.substring(0, s) + HangulJamo.chosungKey(name.substring(s));
+    }
+
+    private List<CompactSpotTrie.Hit> verifyAll(long[] candidates, String q, int limit) {
+        List<CompactSpotTrie.Hit> out = new ArrayList<>();
+        for (long id : candidates) {
+            if (out.size() == limit) break;
+            SpotSearchIndex.Entry e = entries.get(id);
+            if (e != null && HangulJamo.matchesPrefix(e.name(), q)) out.add(new CompactSpotTrie.Hit(id, e.popularity()));
+        }
+        return out;
+    }
+
+    private List<CompactSpotTrie.Hit> verifyTop(long[] candidates, String q, int k) {
+        PriorityQueue<CompactSpotTrie.Hit> heap = new PriorityQueue<>(k + 1, BY_POPULARITY.reversed());
+        for (long id : candidates) {
+            SpotSearchIndex.Entry e = entries.get(id);
+            if (e == null) continue;
+            // 이미 k개를 모았으면 힙 최솟값보다 못한 후보는 이름 검증도 생략
+            if (heap.size() == k && !outranks(e.popularity(), id, heap.peek())) continue;
+            if (!HangulJamo.matchesPrefix(e.name(), q)) continue;
+            heap.add(new CompactSpotTrie.Hit(id, e.popularity()));
+            if (heap.size() > k) heap.poll();
+        }
+        List<CompactSpotTrie.Hit> out = new ArrayList<>(heap);
+        out.sort(BY_POPULARITY);
+        return out;
+    }
+
+    // BY_POPULARITY 기준으로 (popularity, id) 가 worst 보다 앞서는지
+    private static boolean outranks(double popularity, long id, CompactSpotTrie.Hit worst) {
+        int c = Double.compare(popularity, worst.popularity());
+        return c > 0 || (c == 0 && id < worst.spotId());
+    }
+}
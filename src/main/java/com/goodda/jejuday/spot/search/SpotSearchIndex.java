@@ -0,0 +1,241 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * 실시간 갱신되는 이름 검색 인덱스 (copy-on-write 스냅샷).
+ * 스냅샷 = 불변 기본 트라이 + 이후 추가/변경된 항목(delta) + 기본 트라이에서 가릴 id(tombstone).
+ * 읽기는 volatile 스냅샷 하나만 보고 락을 잡지 않는다. 쓰기는 작은 delta 만 복사해서 새 스냅샷으로 교체하고,
+ * delta 가 임계치를 넘으면 백그라운드에서 기본 트라이를 다시 빌드한다.
+ */
+public class SpotSearchIndex {
+
+    private static final Comparator<CompactSpotTrie.Hit> BY_POPULARITY =
+            Comparator.comparingDouble(CompactSpotTrie.Hit::popularity).reversed()
+                    .thenComparingLong(CompactSpotTrie.Hit::spotId);
+
+    private final int topK;
+    private final int rebuildThreshold;
+    private final Executor rebuildExecutor;
+
+    private volatile Snapshot current;
+
+    // 쓰기 전용 (this 로 동기화): 현재 전체 항목
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private Set<Long> changedDuringRebuild; // 재빌드 중 변경된 id (null 이면 재빌드 중 아님)
+
+    public record Entry(String name, double popularity) {}
+
+    private record Snapshot(CompactSpotTrie base, Map<Long, Entry> delta, Map<Long, String> tombstones) {}
+
+    public SpotSearchIndex(int topK, int rebuildThreshold, Executor rebuildExecutor) {
+        this.topK = topK;
+        this.rebuildThreshold = rebuildThreshold;
+        this.rebuildExecutor = rebuildExecutor;
+        this.current = new Snapshot(CompactSpotTrie.builder(topK).build(), Map.of(), Map.of());
+    }
+
+    // ----- 읽기 (락 없음) -----
+
+    /** prefix 로 시작하는 스팟 중 인기순 상위 k개 */
+    public List<CompactSpotTrie.Hit> topK(String prefix, int k) {
+        Snapshot snap = current;
+        String p = CompactSpotTrie.normalize(prefix);
+        if (p.isEmpty() || k <= 0) return List.of();
+
+        // 가려질 기본 항목 수만큼 더 받아서 걸러냄
+        int hidden = countStartingWith(snap.tombstones().values(), p);
+        List<CompactSpotTrie.Hit> merged = new ArrayList<>(k + snap.delta().size());
+        for (CompactSpotTrie.Hit h : snap.base().topHits(p, k + hidden)) {
+            if (!snap.tombstones().containsKey(h.spotId())) merged.add(h);
+        }
+        for (Map.Entry<Long, Entry> e : snap.delta().entrySet()) {
+            if (e.getValue().name().startsWith(p)) {
+                merged.add(new CompactSpotTrie.Hit(e.getKey(), e.getValue().popularity()));
+            }
+        }
+        merged.sort(BY_POPULARITY);
+        return merged.size() > k ? new ArrayList<>(merged.subList(0, k)) : merged;
+    }
+
+    /** prefix 로 시작하는 스팟 id (순서 없음, 최대 limit 개) */
+    public long[] candidates(String prefix, int limit) {
+        Snapshot snap = current;
+        String p = CompactSpotTrie.normalize(prefix);
+        if (p.isEmpty() || limit <= 0) return new long[0];
+
+        int hidden = countStartingWith(snap.tombstones().values(), p);
+        long[] base = snap.base().candidates(p, limit + hidden);
+        long[] out = new long[Math.min(limit, base.length + snap.delta().size())];
+        int n = 0;
+        for (long id : base) {
+            if (n == out.length) break;
+            if (!snap.tombstones().containsKey(id)) out[n++] = id;
+        }
+        for (Map.Entry<Long, Entry> e : snap.delta().entrySet()) {
+            if (n == out.length) break;
+            if (e.getValue().name().startsWith(p)) out[n++] = e.getKey();
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /** candidates 와 같고 인기도 점수를 함께 반환 (거리 등 다른 기준으로 다시 순위를 매길 때) */
+    public List<CompactSpotTrie.Hit> candidateHits(String prefix, int limit) {
+        Snapshot snap = current;
+        String p = CompactSpotTrie.normalize(prefix);
+        if (p.isEmpty() || limit <= 0) return List.of();
+
+        int hidden = countStartingWith(snap.tombstones().values(), p);
+        List<CompactSpotTrie.Hit> out = new ArrayList<>();
+        for (CompactSpotTrie.Hit h : snap.base().candidateHits(p, limit + hidden)) {
+            if (out.size() == limit) break;
+            if (!snap.tombstones().containsKey(h.spotId())) out.add(h);
+        }
+        for (Map.Entry<Long, Entry> e : snap.delta().entrySet()) {
+            if (out.size() == limit) break;
+            if (e.getValue().name().startsWith(p)) {
+                out.add(new CompactSpotTrie.Hit(e.getKey(), e.getValue().popularity()));
+            }
+        }
+        return out;
+    }
+
+    /** 편집 거리 maxEdits 이내 prefix 일치 (거리 → 인기순, 최대 limit 개). 탐색 예산은 CompactSpotTrie.fuzzyPrefix 참고 */
+    public List<CompactSpotTrie.FuzzyHit> fuzzy(String query, int maxEdits, int limit, int maxNodes, long deadlineNanos) {
+        Snapshot snap = current;
+        String q = CompactSpotTrie.normalize(query);
+        if (q.isEmpty() || limit <= 0) return List.of();
+
+        List<CompactSpotTrie.FuzzyHit> merged = new ArrayList<>();
+        for (CompactSpotTrie.FuzzyHit h : snap.base().fuzzyPrefix(
+                q, maxEdits, limit + snap.tombstones().size(), maxNodes, deadlineNanos)) {
+            if (!snap.tombstones().containsKey(h.spotId())) merged.add(h);
+        }
+        for (Map.Entry<Long, Entry> e : snap.delta().entrySet()) {
+            int d = CompactSpotTrie.prefixDistance(e.getValue().name(), q, maxEdits);
+            if (d <= maxEdits) merged.add(new CompactSpotTrie.FuzzyHit(e.getKey(), e.getValue().popularity(), d));
+        }
+        merged.sort(Comparator.comparingInt(CompactSpotTrie.FuzzyHit::distance)
+                .thenComparing(Comparator.comparingDouble(CompactSpotTrie.FuzzyHit::popularity).reversed())
+                .thenComparingLong(CompactSpotTrie.FuzzyHit::spotId));
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    public int size() {
+        Snapshot snap = current;
+        return snap.base().size() - snap.tombstones().size() + snap.delta().size();
+    }
+
+    // ----- 쓰기 -----
+
+    /** 전체 교체 (초기 적재/주기적 재적재) */
+    public void load(Map<Long, Entry> all) {
+        CompactSpotTrie base = build(all);
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                // 진행 중인 재빌드가 끝나면 교체 전후 모든 id 를 다시 맞춤
+                changedDuringRebuild.addAll(entries.keySet());
+                changedDuringRebuild.addAll(all.keySet());
+            }
+            entries.clear();
+            entries.putAll(all);
+            current = new Snapshot(base, Map.of(), Map.of());
+        }
+    }
+
+    /** 추가 또는 이름/인기도 변경 */
+    public synchronized void upsert(long spotId, String name, double popularity) {
+        String n = CompactSpotTrie.normalize(name);
+        if (n.isEmpty()) {
+            remove(spotId);
+            return;
+        }
+        Entry next = new Entry(n, popularity);
+        Entry prev = entries.put(spotId, next);
+        if (next.equals(prev)) return;
+
+        Snapshot snap = current;
+        Map<Long, Entry> delta = new HashMap<>(snap.delta());
+        Map<Long, String> tombstones = new HashMap<>(snap.tombstones());
+        if (prev != null && !delta.containsKey(spotId) && !tombstones.containsKey(spotId)) {
+            tombstones.put(spotId, prev.name()); // 기본 트라이에 있던 이전 값 가리기
+        }
+        delta.put(spotId, next);
+        publish(snap.base(), delta, tombstones, spotId);
+    }
+
+    public synchronized void remove(long spotId) {
+        Entry prev = entries.remove(spotId);
+        if (prev == null) return;
+
+        Snapshot snap = current;
+        Map<Long, Entry> delta = new HashMap<>(snap.delta());
+        Map<Long, String> tombstones = new HashMap<>(snap.tombstones());
+        if (delta.remove(spotId) == null && !tombstones.containsKey(spotId)) {
+            tombstones.put(spotId, prev.name());
+        }
+        publish(snap.base(), delta, tombstones, spotId);
+    }
+
+    // ----- 내부 -----
+
+    private void publish(CompactSpotTrie base, Map<Long, Entry> delta, Map<Long, String> tombstones, long changedId) {
+        current = new Snapshot(base, Map.copyOf(delta), Map.copyOf(tombstones));
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(changedId);
+        } else if (delta.size() + tombstones.size() > rebuildThreshold) {
+            changedDuringRebuild = new HashSet<>();
+            Map<Long, Entry> copy = new HashMap<>(entries);
+            rebuildExecutor.execute(() -> rebuild(copy));
+        }
+    }
+
+    private void rebuild(Map<Long, Entry> copy) {
+        CompactSpotTrie base;
+        try {
+            base = build(copy);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            // 빌드하는 동안 바뀐 id 만 새 기본 트라이 기준으로 delta/tombstone 재계산
+            Map<Long, Entry> delta = new HashMap<>();
+            Map<Long, String> tombstones = new HashMap<>();
+            for (Long id : changedDuringRebuild) {
+                Entry inBase = copy.get(id);
+                Entry now = entries.get(id);
+                if (Objects.equals(inBase, now)) continue;
+                if (inBase != null) tombstones.put(id, inBase.name());
+                if (now != null) delta.put(id, now);
+            }
+            changedDuringRebuild = null;
+            current = new Snapshot(base, Map.copyOf(delta), Map.copyOf(tombstones));
+        }
+    }
+
+    private CompactSpotTrie build(Map<Long, Entry> all) {
+        CompactSpotTrie.Builder builder = CompactSpotTrie.builder(topK);
+        all.forEach((id, e) -> builder.add(id, e.name(), e.popularity()));
+        return builder.build();
+    }
+
+    private static int countStartingWith(Iterable<String> names, String prefix) {
+        int n = 0;
+        for (String name : names) {
+            if (name.startsWith(prefix)) n++;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,227 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 역색인: 태그 → 스팟 id 목록(정렬 배열) + 태그 쌍 동시 출현 수.
+ * 태그는 앞의 '#' 을 떼고 대소문자 구분 없이 묶으며(키는 소문자), 응답에는 처음 들어온 표기를 쓴다.
+ * 태그 키를 정렬 맵에 두어 prefix 자동완성도 범위 조회로 처리한다.
+ */
+public class SpotTagIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Tag> tags = new TreeMap<>();
+    // 스팟 id → 태그 키 (삭제/갱신용)
+    private final Map<Long, String[]> tagsBySpot = new HashMap<>();
+
+    public record TagCount(String tag, int count) {}
+
+    private static final class Tag {
+        final String display;
+        long[] ids = new long[4]; // 오름차순
+        int size;
+        final Map<String, Integer> related = new HashMap<>(); // 다른 태그 키 → 함께 달린 스팟 수
+
+        Tag(String display) {
+            this.display = display;
+        }
+    }
+
+    // 저장되는 태그 길이 상한
+    private static final int MAX_TAG_LENGTH = 50;
+
+    /** 태그 표기 정규화: 앞뒤 공백과 앞쪽 '#' 제거, 길이 제한. 남는 게 없으면 null (스팟 저장 시에도 같은 규칙) */
+    public static String normalize(String raw) {
+        if (raw == null) return null;
+        String t = raw.trim();
+        while (t.startsWith("#")) t = t.substring(1).trim();
+        if (t.isEmpty()) return null;
+        return t.length() > MAX_TAG_LENGTH ? t.substring(0, MAX_TAG_LENGTH) : t;
+    }
+
+    /** 인덱스 키 ("#Jeju", "jeju " → "jeju"). 여러 번 적용해도 같다 */
+    public static String key(String tag) {
+        String t = normalize(tag);
+        return t == null ? "" : t.toLowerCase(Locale.ROOT);
+    }
+
+    // ----- 쓰기 -----
+
+    /** 스팟의 태그 전체 교체 */
+    public void upsert(long spotId, Collection<String> rawTags) {
+        Map<String, String> next = new HashMap<>(); // 키 → 표기
+        for (String raw : rawTags) {
+            String display = normalize(raw);
+            if (display != null) next.putIfAbsent(display.toLowerCase(Locale.ROOT), display);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(spotId);
+            if (next.isEmpty()) return;
+            String[] keys = next.keySet().toArray(new String[0]);
+            tagsBySpot.put(spotId, keys);
+            for (String k : keys) {
+                Tag t = tags.computeIfAbsent(k, x -> new Tag(next.get(x)));
+                add(t, spotId);
+                for (String other : keys) {
+                    if (!other.equals(k)) t.related.merge(other, 1, Integer::sum);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long spotId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(spotId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            tags.clear();
+            tagsBySpot.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ----- 읽기 -----
+
+    public int count(String tag) {
+        lock.readLock().lock();
+        try {
+            Tag t = tags.get(key(tag));
+            return t == null ? 0 : t.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 태그가 달린 스팟 id 를 최신(id 큰) 순으로, beforeId 미만에서 limit 개 */
+    public long[] spotIds(String tag, long beforeId, int limit) {
+        lock.readLock().lock();
+        try {
+            Tag t = tags.get(key(tag));
+            if (t == null || limit <= 0) return new long[0];
+            int end = lowerBound(t, beforeId); // beforeId 미만의 마지막 위치 + 1
+            int from = Math.max(0, end - limit);
+            long[] out = new long[end - from];
+            for (int i = 0; i < out.length; i++) out[i] = t.ids[end - 1 - i];
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** prefix 로 시작하는 태그를 스팟 수 순으로 */
+    public List<TagCount> suggest(String prefix, int limit) {
+        String p = key(prefix);
+        lock.readLock().lock();
+        try {
+            Map<String, Tag> range = p.isEmpty() ? tags : tags.subMap(p, true, p + Character.MAX_VALUE, false);
+            PriorityQueue<TagCount> heap = new PriorityQueue<>(BY_COUNT.reversed());
+            for (Tag t : range.values()) {
+                if (t.size == 0) continue;
+                offer(heap, new TagCount(t.display, t.size), limit);
+            }
+            return sorted(heap);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 같은 스팟에 함께 달린 횟수 순으로 연관 태그 */
+    public List<TagCount> related(String tag, int limit) {
+        lock.readLock().lock();
+        try {
+            Tag t = tags.get(key(tag));
+            if (t == null) return List.of();
+            PriorityQueue<TagCount> heap = new PriorityQueue<>(BY_COUNT.reversed());
+            for (Map.Entry<String, Integer> e : t.related.entrySet()) {
+                offer(heap, new TagCount(tags.get(e.getKey()).display, e.getValue()), limit);
+            }
+            return sorted(heap);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----- 내부 -----
+
+    private static final Comparator<TagCount> BY_COUNT =
+            Comparator.comparingInt(TagCount::count).reversed().thenComparing(TagCount::tag);
+
+    private static void offer(PriorityQueue<TagCount> heap, TagCount c, int limit) {
+        if (limit <= 0) return;
+        heap.add(c);
+        if (heap.size() > limit) heap.poll();
+    }
+
+    private static List<TagCount> sorted(PriorityQueue<TagCount> heap) {
+        List<TagCount> out = new ArrayList<>(heap);
+        out.sort(BY_COUNT);
+        return out;
+    }
+
+    private void removeLocked(long spotId) {
+        String[] old = tagsBySpot.remove(spotId);
+        if (old == null) return;
+        Set<String> keys = new LinkedHashSet<>(Arrays.asList(old));
+        for (String k : keys) {
+            Tag t = tags.get(k);
+            if (t == null) continue;
+            int pos = lowerBound(t, spotId);
+            if (pos < t.size && t.ids[pos] == spotId) {
+                System.arraycopy(t.ids, pos + 1, t.ids, pos, t.size - pos - 1);
+                t.size--;
+            }
+            for (String other : keys) {
+                if (other.equals(k)) continue;
+                t.related.computeIfPresent(other, (x, c) -> c > 1 ? c - 1 : null);
+            }
+        }
+        for (String k : keys) {
+            Tag t = tags.get(k);
+            if (t != null && t.size == 0) tags.remove(k);
+        }
+    }
+
+    private static void add(Tag t, long spotId) {
+        int pos = lowerBound(t, spotId);
+        if (pos < t.size && t.ids[pos] == spotId) return;
+        if (t.size == t.ids.length) t.ids = Arrays.copyOf(t.ids, t.size * 2);
+        System.arraycopy(t.ids, pos, t.ids, pos + 1, t.size - pos);
+        t.ids[pos] = spotId;
+        t.size++;
+    }
+
+    // id 이상인 첫 위치
+    private static int lowerBound(Tag t, long id) {
+        int lo = 0, hi = t.size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (t.ids[mid] < id) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,333 @@
+package com.goodda.jejuday.spot.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이름/태그/설명 대상 n-gram 역색인 (BM25F 랭킹).
+ * 한글은 띄어쓰기/조사로 단어 경계가 불분명하므로 토큰을 글자 bigram 으로 쪼개 색인하고,
+ * 한 글자 검색을 위해 unigram 도 함께 색인한다. 검색어의 모든 n-gram 을 포함하는 문서만 매칭(AND).
+ */
+public class SpotTextIndex {
+
+    public enum Field {
+        NAME(3.0f), TAGS(2.0f), DESCRIPTION(1.0f);
+
+        final float weight;
+
+        Field(float weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int FIELD_COUNT = Field.values().length;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // posting 의 필드별 tf 는 int 하나에 10비트씩 (BM25 포화 함수 특성상 상한을 넘는 tf 는 점수 차이가 없음)
+    private static final int TF_BITS = 10;
+    private static final int TF_MAX = (1 << TF_BITS) - 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term → 문서 id 정렬 배열 + 문서별 필드 tf
+    private final Map<String, DocIdList> postings = new HashMap<>();
+    // 문서 id → 필드별 길이 + 문서가 들어 있는 posting 목록 (삭제/갱신용 정방향 색인)
+    // term 문자열/빈도는 문서마다 두지 않고 공유 posting 참조만 가진다
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final long[] totalFieldLength = new long[FIELD_COUNT];
+
+    public record Hit(long spotId, double score) {}
+
+    public record Result(List<Hit> hits, int total) {}
+
+    private record Doc(int[] fieldLength, DocIdList[] lists) {}
+
+    // 분석 결과 (색인 반영 전 임시)
+    private record Analysis(int[] fieldLength, Map<String, int[]> termFreqs) {}
+
+    // ----- 쓰기 -----
+
+    public void upsert(long spotId, String name, String tags, String description) {
+        Analysis analysis = analyze(name, tags, description);
+        lock.writeLock().lock();
+        try {
+            removeLocked(spotId);
+            DocIdList[] lists = new DocIdList[analysis.termFreqs().size()];
+            int i = 0;
+            for (Map.Entry<String, int[]> e : analysis.termFreqs().entrySet()) {
+                DocIdList list = postings.computeIfAbsent(e.getKey(), DocIdList::new);
+                list.add(spotId, pack(e.getValue()));
+                lists[i++] = list;
+            }
+            docs.put(spotId, new Doc(analysis.fieldLength(), lists));
+            for (int f = 0; f < FIELD_COUNT; f++) totalFieldLength[f] += analysis.fieldLength()[f];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long spotId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(spotId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            docs.clear();
+            Arrays.fill(totalFieldLength, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----- 검색 -----
+
+    /** 점수 내림차순(같으면 id 내림차순 = 최신순) offset 부터 limit 개 + 전체 매칭 수 */
+    public Result search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(queryTerms(query));
+        if (terms.isEmpty() || limit <= 0) return new Result(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            DocIdList[] lists = new DocIdList[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) return new Result(List.of(), 0);
+            }
+            // 짧은 목록부터 교집합
+            Integer[] order = new Integer[lists.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            Arrays.sort(order, Comparator.comparingInt(i -> lists[i].size));
+            long[] matched = Arrays.copyOf(lists[order[0]].ids, lists[order[0]].size);
+            int matchedSize = matched.length;
+            for (int i = 1; i < order.length && matchedSize > 0; i++) {
+                matchedSize = intersect(matched, matchedSize, lists[order[i]]);
+            }
+
+            int n = docs.size();
+            double[] avgLen = new double[FIELD_COUNT];
+            for (int f = 0; f < FIELD_COUNT; f++) avgLen[f] = n == 0 ? 1 : Math.max(1.0, (double) totalFieldLength[f] / n);
+            double[] idf = new double[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                int df = lists[i].size;
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+
+            // offset + limit 개만 유지하는 최소 힙
+            int keep = offset + limit;
+            Comparator<Hit> rank = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::spotId);
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.min(keep, matchedSize) + 1, rank);
+            for (int i = 0; i < matchedSize; i++) {
+                long id = matched[i];
+                Hit hit = new Hit(id, score(id, docs.get(id), lists, idf, avgLen));
+                if (heap.size() < keep) {
+                    heap.add(hit);
+                } else if (rank.compare(hit, heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(hit);
+                }
+            }
+            List<Hit> top = new ArrayList<>(heap);
+            top.sort(rank.reversed());
+            List<Hit> page = offset >= top.size() ? List.of() : top.subList(offset, top.size());
+            return new Result(new ArrayList<>(page), matchedSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----- 토큰화 -----
+
+    /** 색인용: 토큰별 unigram + bigram */
+    static List<String> indexTerms(String text) {
+        List<String> out = new ArrayList<>();
+        for (String token : tokens(text)) {
+            for (int i = 0; i < token.length(); i++) {
+                out.add(token.substring(i, i + 1));
+                if (i + 1 < token.length()) out.add(token.substring(i, i + 2));
+            }
+        }
+        return out;
+    }
+
+    /** 검색용: 두 글자 이상 토큰은 bigram, 한 글자 토큰은 unigram */
+    static Set<String> queryTerms(String query) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String token : tokens(query)) {
+            if (token.length() == 1) {
+                out.add(token);
+            } else {
+                for (int i = 0; i + 1 < token.length(); i++) out.add(token.substring(i, i + 2));
+            }
+        }
+        return out;
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null || text.isBlank()) return out;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            } else if (sb.length() > 0) {
+                out.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+        if (sb.length() > 0) out.add(sb.toString());
+        return out;
+    }
+
+    // ----- 내부 -----
+
+    private static Analysis analyze(String name, String tags, String description) {
+        String[] texts = {name, tags, description};
+        int[] lengths = new int[FIELD_COUNT];
+        Map<String, int[]> tf = new HashMap<>();
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            List<String> terms = indexTerms(texts[f]);
+            lengths[f] = terms.size();
+            for (String t : terms) tf.computeIfAbsent(t, k -> new int[FIELD_COUNT])[f]++;
+        }
+        return new Analysis(lengths, tf);
+    }
+
+    private void removeLocked(long spotId) {
+        Doc old = docs.remove(spotId);
+        if (old == null) return;
+        for (int f = 0; f < FIELD_COUNT; f++) totalFieldLength[f] -= old.fieldLength()[f];
+        for (DocIdList list : old.lists()) {
+            list.remove(spotId);
+            if (list.size == 0) postings.remove(list.term, list);
+        }
+    }
+
+    // BM25F: 필드별 길이 정규화한 tf 를 가중 합산한 뒤 포화 함수 적용
+    private static double score(long id, Doc doc, DocIdList[] lists, double[] idf, double[] avgLen) {
+        double score = 0;
+        for (int i = 0; i < lists.length; i++) {
+            int packed = lists[i].freqOf(id);
+            if (packed == 0) continue;
+            double weighted = 0;
+            for (Field field : Field.values()) {
+                int f = field.ordinal();
+                int tf = unpack(packed, f);
+                if (tf == 0) continue;
+                double norm = 1 - B + B * doc.fieldLength()[f] / avgLen[f];
+                weighted += field.weight * tf / norm;
+            }
+            score += idf[i] * weighted / (K1 + weighted);
+        }
+        return score;
+    }
+
+    private static int pack(int[] tf) {
+        int packed = 0;
+        for (int f = 0; f < FIELD_COUNT; f++) packed |= Math.min(tf[f], TF_MAX) << (f * TF_BITS);
+        return packed;
+    }
+
+    private static int unpack(int packed, int field) {
+        return (packed >>> (field * TF_BITS)) & TF_MAX;
+    }
+
+    // matched[0..size) 와 list 의 교집합을 matched 앞쪽에 채우고 크기 반환
+    private static int intersect(long[] matched, int size, DocIdList list) {
+        int n = 0, j = 0;
+        for (int i = 0; i < size && j < list.size; i++) {
+            long id = matched[i];
+            j = list.lowerBound(id, j);
+            if (j < list.size && list.ids[j] == id) matched[n++] = id;
+        }
+        return n;
+    }
+
+    /** 정렬된 문서 id 목록 + 같은 위치의 필드별 tf (pack) */
+    private static final class DocIdList {
+        final String term;
+        long[] ids = new long[4];
+        int[] freqs = new int[4];
+        int size;
+
+        DocIdList(String term) {
+            this.term = term;
+        }
+
+        void add(long id, int packedFreq) {
+            int pos = lowerBound(id, 0);
+            if (pos < size && ids[pos] == id) {
+                freqs[pos] = packedFreq;
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            System.arraycopy(freqs, pos, freqs, pos + 1, size - pos);
+            ids[pos] = id;
+            freqs[pos] = packedFreq;
+            size++;
+        }
+
+        void remove(long id) {
+            int pos = lowerBound(id, 0);
+            if (pos == size || ids[pos] != id) return;
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(freqs, pos + 1, freqs, pos, size - pos - 1);
+            size--;
+        }
+
+        /** 문서의 pack 된 tf (없으면 0) */
+        int freqOf(long id) {
+            int pos = lowerBound(id, 0);
+            return pos < size && ids[pos] == id ? freqs[pos] : 0;
+        }
+
+        // from 이후에서 id 이상인 첫 위치 (지수 탐색 후 이진 탐색)
+        int lowerBound(long id, int from) {
+            int step = 1, hi = from;
+            while (hi < size && ids[hi] < id) {
+                from = hi + 1;
+                hi += step;
+                step <<= 1;
+            }
+            hi = Math.min(hi, size);
+            int lo = from;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (ids[mid] < id) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
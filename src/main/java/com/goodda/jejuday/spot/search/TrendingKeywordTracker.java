@@ -0,0 +1,156 @@
+package com.goodda.jejuday.spot.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 실시간 인기 검색어 집계 (스트리밍 heavy hitter).
+ * 시간 버킷마다 count-min sketch(빈도 추정) + 상위 후보 맵(고정 크기)을 두고, 버킷은 원형으로 재사용한다.
+ * 키워드별 정확한 카운트를 모두 들고 있지 않으므로 메모리는 버킷 수 x (sketch + 후보 수) 로 고정이다.
+ */
+public class TrendingKeywordTracker {
+
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 4096; // 2의 거듭제곱
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final Bucket[] buckets;
+    private final long bucketMillis;
+    private final int capacity;
+
+    public TrendingKeywordTracker(int bucketCount, long bucketMillis, int capacity) {
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) buckets[i] = new Bucket();
+        this.bucketMillis = bucketMillis;
+        this.capacity = capacity;
+    }
+
+    public record Trending(String keyword, double score) {}
+
+    /** 검색 1건 */
+    public void record(String keyword, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket b = bucket(epoch);
+        synchronized (b) {
+            if (b.epoch != epoch) b.reset(epoch); // 한 바퀴 지난 버킷 재사용
+            b.add(keyword, capacity);
+        }
+    }
+
+    /**
+     * 최근 windowBuckets 버킷 길이만큼의 인기 검색어 상위 k개.
+     * 현재 버킷 + 이전 windowBuckets 개 버킷을 보되, 가장 오래된 버킷은 현재 버킷이 지난 비율만큼 덜 반영해
+     * 버킷 경계에서 순위가 갑자기 바뀌지 않게 한다 (슬라이딩 윈도우 근사). 나이가 a 인 버킷은 decay^a 가중.
+     */
+    public List<Trending> top(int k, int windowBuckets, double decay, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        double elapsed = (double) (nowMillis % bucketMillis) / bucketMillis;
+        int window = Math.min(windowBuckets, buckets.length - 1);
+
+        // 윈도우 안 버킷들의 후보 합집합을 각 버킷 sketch 로 다시 추정
+        double[] weights = new double[window + 1];
+        Set<String> candidates = new HashSet<>();
+        for (int age = 0; age <= window; age++) {
+            weights[age] = Math.pow(decay, age) * (age == window && window > 0 ? 1 - elapsed : 1);
+            Bucket b = bucket(epoch - age);
+            synchronized (b) {
+                if (b.epoch == epoch - age) candidates.addAll(b.top.keySet());
+            }
+        }
+
+        List<Trending> out = new ArrayList<>(candidates.size());
+        for (String keyword : candidates) {
+            double score = 0;
+            for (int age = 0; age <= window; age++) {
+                Bucket b = bucket(epoch - age);
+                synchronized (b) {
+                    if (b.epoch == epoch - age) score += weights[age] * b.estimate(keyword);
+                }
+            }
+            if (score > 0) out.add(new Trending(keyword, score));
+        }
+        out.sort(Comparator.comparingDouble(Trending::score).reversed().thenComparing(Trending::keyword));
+        return out.size() > k ? new ArrayList<>(out.subList(0, k)) : out;
+    }
+
+    private Bucket bucket(long epoch) {
+        return buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+    }
+
+    // ----- 버킷 -----
+    private static final class Bucket {
+        long epoch = -1;
+        final int[][] sketch = new int[DEPTH][WIDTH];
+        // 추정 빈도 상위 후보 (capacity 개 이하)
+        final Map<String, Integer> top = new HashMap<>();
+        int minCount;      // top 의 최소 추정 빈도 (꽉 찼을 때만 의미 있음)
+        boolean minStale;  // 최소값이던 후보가 커져서 minCount 를 다시 계산해야 함
+
+        void reset(long epoch) {
+            this.epoch = epoch;
+            for (int[] row : sketch) Arrays.fill(row, 0);
+            top.clear();
+            minCount = 0;
+            minStale = false;
+        }
+
+        void add(String keyword, int capacity) {
+            int h = keyword.hashCode();
+            int estimate = Integer.MAX_VALUE;
+            for (int d = 0; d < DEPTH; d++) {
+                estimate = Math.min(estimate, ++sketch[d][slot(h, d)]);
+            }
+
+            Integer prev = top.get(keyword);
+            if (prev != null) {
+                top.put(keyword, estimate);
+                if (prev == minCount) minStale = true;
+                return;
+            }
+            if (top.size() < capacity) {
+                top.put(keyword, estimate);
+                if (top.size() == capacity) refreshMin();
+                return;
+            }
+            if (minStale) refreshMin();
+            if (estimate <= minCount) return;
+            // 최소 후보를 밀어냄
+            String evict = null;
+            for (Map.Entry<String, Integer> e : top.entrySet()) {
+                if (e.getValue() == minCount) {
+                    evict = e.getKey();
+                    break;
+                }
+            }
+            top.remove(evict);
+            top.put(keyword, estimate);
+            refreshMin();
+        }
+
+        private void refreshMin() {
+            int min = Integer.MAX_VALUE;
+            for (int v : top.values()) min = Math.min(min, v);
+            minCount = min;
+            minStale = false;
+        }
+
+        int estimate(String keyword) {
+            int h = keyword.hashCode();
+            int estimate = Integer.MAX_VALUE;
+            for (int d = 0; d < DEPTH; d++) estimate = Math.min(estimate, sketch[d][slot(h, d)]);
+            return estimate;
+        }
+
+        private static int slot(int hash, int row) {
+            long x = (hash ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+            x ^= x >>> 31;
+            return (int) (x & (WIDTH - 1));
+        }
+    }
+}
@@ -1,39 +1,47 @@
 package com.goodda.jejuday.spot.service;
 
-import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.util.SecurityUtil;
-import com.goodda.jejuday.spot.entity.SearchHistory;
-import com.goodda.jejuday.spot.repository.SearchHistoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SearchHistoryServiceImpl implements SearchHistoryService {
-    private final SearchHistoryRepository historyRepository;
+    private static final int MAX_KEYWORD_LENGTH = 200;
+
+    private final SearchHistoryWriter historyWriter;
+    private final SearchTrendingService trendingService;
     private final SecurityUtil securityUtil;
 
+    // 검색 경로에서는 DB 조회/저장 없이 큐에만 넣음 (사용자 id 는 인증 정보에서 바로)
     @Override
     public void recordSearch(String keyword) {
-        User me = securityUtil.getAuthenticatedUser();
-        SearchHistory h = SearchHistory.builder()
-                .user(me)
-                .keyword(keyword)
-                .build();
-        historyRepository.save(h);
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        trendingService.record(normalized); // 인기 검색어는 비로그인 검색도 집계
+        Long userId = securityUtil.getAuthenticatedUserIdOrNull();
+        if (userId != null) {
+            historyWriter.enqueue(userId, normalized);
+        }
     }
 
     @Override
     public List<String> getRecentSearchHistory(int limit) {
-        User me = securityUtil.getAuthenticatedUser();
-        Pageable p = PageRequest.of(0, limit, Sort.by("createdAt").descending());
-        return historyRepository.findByUserOrderByCreatedAtDesc(me, p)
-                .stream()
-                .map(SearchHistory::getKeyword)
-                .collect(Collectors.toList());
+        Long userId = securityUtil.getAuthenticatedUserIdOrNull();
+        if (userId == null) {
+            return List.of();
+        }
+        return historyWriter.recent(userId, limit);
+    }
+
+    // 앞뒤/연속 공백 정리 + 컬럼 길이 제한
+    private static String normalize(String keyword) {
+        if (keyword == null) return "";
+        String k = keyword.trim().replaceAll("\\s+", " ");
+        return k.length() > MAX_KEYWORD_LENGTH ? k.substring(0, MAX_KEYWORD_LENGTH) : k;
     }
 }
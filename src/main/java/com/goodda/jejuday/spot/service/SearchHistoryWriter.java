@@ -0,0 +1,189 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.repository.SearchHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색 기록 비동기 writer.
+ * 검색 요청은 bounded 큐에 넣기만 하고, 백그라운드에서 multi-row INSERT + Redis 최근 검색어 목록 갱신을 일괄 처리한다.
+ * 최근 검색어는 사용자별 중복 없는 최신순 목록(search:recent:{userId})으로 유지하고, 목록이 없으면 DB 에서 채운다.
+ * DB 기록은 보존 기간이 지나면 청크 단위로 삭제한다.
+ */
+@Slf4j
+@Service
+public class SearchHistoryWriter {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int DELETE_CHUNK = 5_000;
+    private static final int BACKFILL_ROWS = 100; // 중복 제거 전 DB 에서 읽을 최근 기록 수
+    private static final String KEY_PREFIX = "search:recent:";
+    private static final String INSERT_PREFIX = "INSERT INTO search_history (user_id, keyword, created_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SearchHistoryRepository historyRepository;
+    private final BlockingQueue<SearchEvent> queue;
+    private final int recentSize;
+    private final Duration recentTtl;
+    private final Duration retention;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SearchHistoryWriter(JdbcTemplate jdbcTemplate,
+                               RedisTemplate<String, String> redisTemplate,
+                               SearchHistoryRepository historyRepository,
+                               @Value("${spot.search-history.queue-capacity:10000}") int queueCapacity,
+                               @Value("${spot.search-history.recent-size:10}") int recentSize,
+                               @Value("${spot.search-history.recent-ttl:30d}") Duration recentTtl,
+                               @Value("${spot.search-history.retention:90d}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.historyRepository = historyRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recentSize = recentSize;
+        this.recentTtl = recentTtl;
+        this.retention = retention;
+    }
+
+    private record SearchEvent(Long userId, String keyword, LocalDateTime searchedAt) {}
+
+    /** 검색 1건 기록 (큐에 넣기만 함). 큐가 가득 차면 버린다. */
+    public void enqueue(Long userId, String keyword) {
+        if (!queue.offer(new SearchEvent(userId, keyword, LocalDateTime.now()))) {
+            dropped.increment();
+            log.warn("검색 기록 큐 포화로 기록 유실: userId={}, 누적 유실={}", userId, dropped.sum());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spot.search-history.flush-interval:1000}")
+    public void flush() {
+        List<SearchEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            insertBatch(batch);
+            pushRecent(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /** 최근 검색어 (최신순, 중복 없음) */
+    public List<String> recent(Long userId, int limit) {
+        int n = Math.min(limit, recentSize);
+        if (n <= 0) return List.of();
+        String key = KEY_PREFIX + userId;
+        try {
+            List<String> cached = redisTemplate.opsForList().range(key, 0, n - 1);
+            if (cached != null && !cached.isEmpty()) return cached;
+        } catch (DataAccessException e) {
+            log.warn("최근 검색어 Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            return loadFromDb(userId, n);
+        }
+
+        List<String> all = loadFromDb(userId, recentSize);
+        if (!all.isEmpty()) {
+            try {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) {
+                        operations.delete(key);
+                        operations.opsForList().rightPushAll(key, all);
+                        operations.expire(key, recentTtl);
+                        return null;
+                    }
+                });
+            } catch (DataAccessException e) {
+                log.warn("최근 검색어 Redis 적재 실패: {}", e.getMessage());
+            }
+        }
+        return all.size() > n ? all.subList(0, n) : all;
+    }
+
+    /** 보존 기간이 지난 기록 삭제 (긴 락을 피하려고 청크 단위) */
+    @Scheduled(cron = "${spot.search-history.retention-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        int total = 0, deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM search_history WHERE created_at < ? LIMIT " + DELETE_CHUNK, cutoff);
+            total += deleted;
+        } while (deleted == DELETE_CHUNK);
+        log.info("보존 기간이 지난 검색 기록 삭제: {}건", total);
+    }
+
+    private List<String> loadFromDb(Long userId, int n) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String k : historyRepository.findRecentKeywords(userId, PageRequest.of(0, BACKFILL_ROWS))) {
+            distinct.add(k);
+            if (distinct.size() == n) break;
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private void insertBatch(List<SearchEvent> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 10).append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 3];
+        for (int i = 0; i < batch.size(); i++) {
+            SearchEvent e = batch.get(i);
+            if (i > 0) sql.append(',');
+            sql.append("(?,?,?)");
+            args[i * 3] = e.userId();
+            args[i * 3 + 1] = e.keyword();
+            args[i * 3 + 2] = Timestamp.valueOf(e.searchedAt());
+        }
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+        } catch (Exception ex) {
+            failed.add(batch.size());
+            log.warn("검색 기록 일괄 저장 실패: {}건, {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    // 이미 목록이 있는 사용자만 갱신 (LPUSHX). 없으면 다음 조회 때 DB 에서 채운다.
+    private void pushRecent(List<SearchEvent> batch) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (SearchEvent e : batch) {
+                        String key = KEY_PREFIX + e.userId();
+                        operations.opsForList().remove(key, 0, e.keyword());
+                        operations.opsForList().leftPushIfPresent(key, e.keyword());
+                        operations.opsForList().trim(key, 0, recentSize - 1);
+                        operations.expire(key, recentTtl);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("최근 검색어 Redis 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
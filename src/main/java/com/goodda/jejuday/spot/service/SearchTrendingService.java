@@ -0,0 +1,84 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.dto.TrendingKeywordResponse;
+import com.goodda.jejuday.spot.search.TrendingKeywordTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 실시간 인기 검색어.
+ * 검색 경로에서 TrendingKeywordTracker 에 기록만 하고, 순위는 주기적으로 계산해 둔 스냅샷을 그대로 반환한다.
+ * 인스턴스별로 집계하므로 여러 대일 때는 각 인스턴스가 받은 검색의 표본 기준 순위다.
+ */
+@Slf4j
+@Service
+public class SearchTrendingService {
+
+    private static final long BUCKET_MILLIS = 3_600_000L; // 1시간 버킷
+    private static final int BUCKETS = 25;                // 24시간 + 현재 버킷
+    private static final int CANDIDATES_PER_BUCKET = 200;
+    private static final int SNAPSHOT_SIZE = 20;
+    private static final double DAILY_DECAY = 0.9;        // 일간 순위에서 한 시간 지날 때마다 가중치
+
+    public enum Window {
+        HOUR(1, 1.0), DAY(24, DAILY_DECAY);
+
+        private final int buckets;
+        private final double decay;
+
+        Window(int buckets, double decay) {
+            this.buckets = buckets;
+            this.decay = decay;
+        }
+
+        public static Window from(String value) {
+            try {
+                return Window.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("window 는 hour 또는 day 만 가능합니다.");
+            }
+        }
+    }
+
+    private final TrendingKeywordTracker tracker =
+            new TrendingKeywordTracker(BUCKETS, BUCKET_MILLIS, CANDIDATES_PER_BUCKET);
+    private volatile List<TrendingKeywordResponse> hourly = List.of();
+    private volatile List<TrendingKeywordResponse> daily = List.of();
+
+    /** 검색 1건 (대소문자 구분 없이 집계) */
+    public void record(String keyword) {
+        tracker.record(keyword.toLowerCase(Locale.ROOT), System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${spot.search-trending.refresh-interval:60000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        hourly = snapshot(Window.HOUR, now);
+        daily = snapshot(Window.DAY, now);
+    }
+
+    /** 계산해 둔 순위에서 상위 size 개 */
+    public List<TrendingKeywordResponse> trending(Window window, int size) {
+        List<TrendingKeywordResponse> ranked = window == Window.HOUR ? hourly : daily;
+        int n = Math.max(0, Math.min(size, ranked.size()));
+        return ranked.subList(0, n);
+    }
+
+    private List<TrendingKeywordResponse> snapshot(Window window, long now) {
+        List<TrendingKeywordTracker.Trending> top = tracker.top(SNAPSHOT_SIZE, window.buckets, window.decay, now);
+        List<TrendingKeywordResponse> out = new ArrayList<>(top.size());
+        for (int i = 0; i < top.size(); i++) {
+            out.add(TrendingKeywordResponse.builder()
+                    .rank(i + 1)
+                    .keyword(top.get(i).keyword())
+                    .score(Math.round(top.get(i).score()))
+                    .build());
+        }
+        return List.copyOf(out);
+    }
+}
@@ -0,0 +1,80 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.auth.util.SecurityUtil;
+import com.goodda.jejuday.spot.dto.NearSpotResponse;
+import com.goodda.jejuday.spot.dto.SpotResponse;
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.UserReactionEvent.Kind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 스팟 목록 응답용 일괄 로더.
+ * 한 페이지의 스팟 id 를 모아서 내가 좋아요 / 내가 북마크 여부를 사용자별 반응 집합 조회 1번씩으로 채운다.
+ * (좋아요 수는 spot.like_count + 미반영 증감분, 댓글 수는 spot.reply_count 라 추가 쿼리 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SpotBatchLoader {
+
+    private final UserReactionService reactionService;
+    private final SpotCounterService counterService;
+    private final SecurityUtil securityUtil;
+
+    /** 현재 로그인 사용자 기준 (비로그인이면 likedByMe/bookmarkedByMe 는 false) */
+    public SpotBatch load(Collection<Spot> spots) {
+        return load(spots, securityUtil.getAuthenticatedUserIdOrNull());
+    }
+
+    public SpotBatch load(Collection<Spot> spots, Long viewerId) {
+        if (spots.isEmpty()) {
+            return new SpotBatch(Set.of(), Set.of());
+        }
+        List<Long> ids = spots.stream().map(Spot::getId).distinct().collect(Collectors.toList());
+
+        Set<Long> liked = reactionService.filter(viewerId, Kind.SPOT_LIKE, ids);
+        Set<Long> bookmarked = reactionService.filter(viewerId, Kind.SPOT_BOOKMARK, ids);
+        return new SpotBatch(liked, bookmarked);
+    }
+
+    /** 한 번의 load 결과. 응답 변환 시 추가 쿼리 없음 */
+    public final class SpotBatch {
+        private final Set<Long> liked;
+        private final Set<Long> bookmarked;
+
+        private SpotBatch(Set<Long> liked, Set<Long> bookmarked) {
+            this.liked = liked;
+            this.bookmarked = bookmarked;
+        }
+
+        public int likeCount(Spot spot) {
+            return counterService.likeCount(spot);
+        }
+
+        public int commentCount(Spot spot) {
+            return spot.getReplyCount() == null ? 0 : spot.getReplyCount();
+        }
+
+        public boolean likedByMe(Spot spot) {
+            return liked.contains(spot.getId());
+        }
+
+        public boolean bookmarkedByMe(Spot spot) {
+            return bookmarked.contains(spot.getId());
+        }
+
+        public SpotResponse toResponse(Spot spot) {
+            return SpotResponse.fromEntity(spot, likeCount(spot), likedByMe(spot),
+                    commentCount(spot), bookmarkedByMe(spot));
+        }
+
+        public NearSpotResponse toNearResponse(Spot spot) {
+            return NearSpotResponse.fromEntity(spot, likeCount(spot), likedByMe(spot));
+        }
+    }
+}
@@ -19,12 +19,18 @@ public interface SpotCommentService {
     /** 최상위 댓글 조회 (페이징) */
     ReplyPageResponse findTopLevelBySpot(Long spotId, int page, int size);
 
+    /** 댓글 스레드 커서 조회 (최상위 댓글 + 대댓글 미리보기 + 대댓글 수) */
+    CursorPageResponse<CommentThreadResponse> findThreads(Long spotId, String cursor, int size, int previewSize);
+
     /** 특정 댓글의 대댓글 조회 */
     List<ReplyResponse> findReplies(Long parentReplyId);
 
     /** 특정 댓글의 대댓글 조회 (페이징) */
     ReplyPageResponse findReplies(Long parentReplyId, int page, int size);
 
+    /** 특정 댓글의 대댓글 조회 (커서, 오래된 순) */
+    CursorPageResponse<ReplyResponse> findReplies(Long parentReplyId, String cursor, int size);
+
     /** 댓글 수정 */
     ReplyResponse update(Long replyId, String text);
 
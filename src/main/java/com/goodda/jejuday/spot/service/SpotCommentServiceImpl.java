@@ -2,18 +2,27 @@ package com.goodda.jejuday.spot.service;
 
 import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.util.SecurityUtil;
+import com.goodda.jejuday.spot.dto.CommentThreadResponse;
+import com.goodda.jejuday.spot.dto.CursorPageResponse;
 import com.goodda.jejuday.spot.dto.ReplyPageResponse;
 import com.goodda.jejuday.spot.dto.ReplyRequest;
 import com.goodda.jejuday.spot.dto.ReplyResponse;
+import com.goodda.jejuday.spot.entity.Like;
 import com.goodda.jejuday.spot.entity.Reply;
 import com.goodda.jejuday.spot.dto.ReplyDTO;
 import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotRepliesChangedEvent;
+import com.goodda.jejuday.spot.event.UserReactionEvent;
+import com.goodda.jejuday.spot.repository.LikeRepository;
 import com.goodda.jejuday.spot.repository.ReplyRepository;
 import com.goodda.jejuday.spot.repository.SpotRepository;
 import com.goodda.jejuday.spot.service.SpotCommentService;
-import com.goodda.jejuday.auth.service.UserService;
+import com.goodda.jejuday.spot.util.FeedCursor;
+import com.goodda.jejuday.auth.service.AuthorProfileCache;
+import com.goodda.jejuday.auth.service.AuthorProfileCache.AuthorProfile;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,7 +33,11 @@ import jakarta.persistence.EntityNotFoundException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,9 +47,18 @@ public class SpotCommentServiceImpl implements SpotCommentService {
     private final ReplyRepository replyRepo;
     private final SpotRepository spotRepo;
     private final SecurityUtil securityUtil;
-    private final UserService userService;
+    private final LikeRepository likeRepo;
+    private final AuthorProfileCache authorCache;
+    private final UserReactionService reactionService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final int MAX_PREVIEW_REPLIES = 5;
+    private static final LocalDateTime CURSOR_MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final LocalDateTime CURSOR_MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
 
     @Override
+    @Transactional
     public ReplyResponse createComment(Long spotId, ReplyRequest request) {
         User user = securityUtil.getAuthenticatedUser();
         Spot spot = spotRepo.findById(spotId)
@@ -47,15 +69,23 @@ public class SpotCommentServiceImpl implements SpotCommentService {
         r.setText(request.getText());
         r.setDepth(0);                           // 최상위 댓글
         r.setCreatedAt(LocalDateTime.now());
-        return toResponse(replyRepo.save(r));
+        Reply saved = replyRepo.save(r);
+        spotRepo.adjustReplyCount(spotId, 1);
+        eventPublisher.publishEvent(new SpotRepliesChangedEvent(spotId));
+        return toResponse(saved);
     }
 
 
     @Override
+    @Transactional
     public ReplyResponse createReply(Long spotId, Long parentReplyId, ReplyRequest request) {
         User user = securityUtil.getAuthenticatedUser();
         Reply parent = replyRepo.findById(parentReplyId)
                 .orElseThrow(() -> new EntityNotFoundException("Parent reply not found"));
+        // 다른 스팟의 댓글에 단 대댓글이 이 스팟의 댓글 수를 올리지 않도록
+        if (!spotId.equals(parent.getContentId())) {
+            throw new IllegalArgumentException("해당 스팟의 댓글이 아닙니다.");
+        }
         Reply r = new Reply();
         r.setContentId(spotId);
         r.setUser(user);
@@ -63,14 +93,16 @@ public class SpotCommentServiceImpl implements SpotCommentService {
         r.setText(request.getText());
         r.setDepth(parent.getDepth() + 1);      // 부모 깊이+1
         r.setCreatedAt(LocalDateTime.now());
-        return toResponse(replyRepo.save(r));
+        Reply saved = replyRepo.save(r);
+        spotRepo.adjustReplyCount(spotId, 1);
+        eventPublisher.publishEvent(new SpotRepliesChangedEvent(spotId));
+        return toResponse(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ReplyResponse> findTopLevelBySpot(Long spotId) {
-        return replyRepo.findByContentIdAndDepthOrderByCreatedAtDesc(spotId, 0)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return toResponses(replyRepo.findByContentIdAndDepthOrderByCreatedAtDesc(spotId, 0));
     }
 
     @Override
@@ -78,15 +110,71 @@ public class SpotCommentServiceImpl implements SpotCommentService {
     public ReplyPageResponse findTopLevelBySpot(Long spotId, int page, int size) {
         Pageable pg = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<Reply> p = replyRepo.findByContentIdAndDepth(spotId, 0, pg);
-        List<ReplyResponse> list = p.stream().map(this::toResponse).toList();
+        List<ReplyResponse> list = toResponses(p.getContent());
         return new ReplyPageResponse(list, p.getTotalElements(), p.hasNext());
     }
 
+    /**
+     * 최상위 댓글 커서 페이지 + 댓글별 대댓글 미리보기.
+     * 페이지 크기와 무관하게 쿼리 3번: 최상위 댓글, 부모별 미리보기 id/대댓글 수(윈도 함수), 미리보기 대댓글.
+     * 작성자 프로필(캐시 미스만), 좋아요 수, 내가 좋아요 여부는 스레드 전체를 모아 한 번씩 조회한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentThreadResponse> findThreads(Long spotId, String cursor, int size, int previewSize) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        int preview = Math.max(0, Math.min(previewSize, MAX_PREVIEW_REPLIES));
+
+        // limit + 1 개를 조회해서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 대신)
+        List<Reply> rows = replyRepo.findTopLevelAfter(
+                spotId,
+                after == null ? CURSOR_MAX_TIME : after.createdAt(),
+                after == null ? Long.MAX_VALUE : after.id(),
+                PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<Reply> page = hasNext ? rows.subList(0, limit) : rows;
+        if (page.isEmpty()) return new CursorPageResponse<>(List.of(), null, false);
+
+        Map<Long, Long> childCounts = new HashMap<>();
+        List<Long> previewIds = new ArrayList<>();
+        for (Object[] row : replyRepo.findChildPreview(page.stream().map(Reply::getId).toList(), preview)) {
+            childCounts.put(((Number) row[0]).longValue(), ((Number) row[2]).longValue());
+            if (preview > 0) previewIds.add(((Number) row[1]).longValue());
+        }
+
+        Map<Long, List<Reply>> previews = new HashMap<>();
+        List<Reply> all = new ArrayList<>(page);
+        if (!previewIds.isEmpty()) {
+            for (Reply child : replyRepo.findAllByIdInOrderByParent(previewIds)) {
+                previews.computeIfAbsent(child.getParentReply().getId(), k -> new ArrayList<>()).add(child);
+                all.add(child);
+            }
+        }
+        ReplyBatch batch = loadBatch(all);
+
+        List<CommentThreadResponse> content = new ArrayList<>(page.size());
+        for (Reply r : page) {
+            List<Reply> children = previews.getOrDefault(r.getId(), List.of());
+            long total = childCounts.getOrDefault(r.getId(), 0L);
+            Reply last = children.isEmpty() ? null : children.get(children.size() - 1);
+            content.add(CommentThreadResponse.builder()
+                    .comment(toResponse(r, batch))
+                    .replies(children.stream().map(c -> toResponse(c, batch)).toList())
+                    .replyCount(total)
+                    .hasMoreReplies(total > children.size())
+                    .repliesCursor(last == null ? null : FeedCursor.of(last.getCreatedAt(), last.getId()).encode())
+                    .build());
+        }
+        Reply tail = page.get(page.size() - 1);
+        String nextCursor = hasNext ? FeedCursor.of(tail.getCreatedAt(), tail.getId()).encode() : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ReplyResponse> findReplies(Long parentReplyId) {
-        return replyRepo.findByParentReplyIdOrderByCreatedAtAsc(parentReplyId)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+        return toResponses(replyRepo.findByParentReplyIdOrderByCreatedAtAsc(parentReplyId));
     }
 
 
@@ -95,10 +183,27 @@ public class SpotCommentServiceImpl implements SpotCommentService {
     public ReplyPageResponse findReplies(Long parentReplyId, int page, int size) {
         Pageable pg = PageRequest.of(page, size, Sort.by("createdAt").ascending());
         Page<Reply> p = replyRepo.findByParentReplyId(parentReplyId, pg);
-        List<ReplyResponse> list = p.stream().map(this::toResponse).toList();
+        List<ReplyResponse> list = toResponses(p.getContent());
         return new ReplyPageResponse(list, p.getTotalElements(), p.hasNext());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReplyResponse> findReplies(Long parentReplyId, String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<Reply> rows = replyRepo.findChildrenAfter(
+                parentReplyId,
+                after == null ? CURSOR_MIN_TIME : after.createdAt(),
+                after == null ? 0L : after.id(),
+                PageRequest.of(0, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<Reply> page = hasNext ? rows.subList(0, limit) : rows;
+        Reply tail = page.isEmpty() ? null : page.get(page.size() - 1);
+        String nextCursor = hasNext ? FeedCursor.of(tail.getCreatedAt(), tail.getId()).encode() : null;
+        return new CursorPageResponse<>(toResponses(page), nextCursor, hasNext);
+    }
+
 
     @Override
     @Transactional
@@ -115,6 +220,7 @@ public class SpotCommentServiceImpl implements SpotCommentService {
     public void delete(Long replyId) {
         Reply r = replyRepo.findById(replyId)
                 .orElseThrow(() -> new EntityNotFoundException("Reply not found"));
+        boolean alreadyDeleted = Boolean.TRUE.equals(r.getIsDeleted());
         r.setIsDeleted(true);
         // 대댓글이 있는 최상위 댓글은 텍스트만 치환
         if (r.getDepth() == 0 &&
@@ -122,21 +228,54 @@ public class SpotCommentServiceImpl implements SpotCommentService {
             r.setText("삭제된 댓글입니다.");
         }
         replyRepo.save(r);
+        if (!alreadyDeleted) spotRepo.adjustReplyCount(r.getContentId(), -1);
+        eventPublisher.publishEvent(new SpotRepliesChangedEvent(r.getContentId()));
     }
 
 
-    /** Entity → DTO 변환 헬퍼 */
+    /** 한 페이지 댓글의 작성자 프로필 / 좋아요 수 / 내가 좋아요 여부 */
+    private record ReplyBatch(Map<Long, AuthorProfile> authors, Map<Long, Long> likeCounts, Set<Long> likedByMe) {}
+
+    // 항목별로 한 번씩: 프로필 캐시(미스만 IN 쿼리), 좋아요 수 GROUP BY, 사용자별 반응 집합
+    private ReplyBatch loadBatch(List<Reply> replies) {
+        if (replies.isEmpty()) return new ReplyBatch(Map.of(), Map.of(), Set.of());
+        List<Long> ids = replies.stream().map(Reply::getId).toList();
+        // 프록시의 id 접근은 초기화를 일으키지 않으므로 사용자 행은 읽지 않음
+        Map<Long, AuthorProfile> authors = authorCache.getAll(replies.stream()
+                .filter(r -> r.getUser() != null)
+                .map(r -> r.getUser().getId())
+                .toList());
+        return new ReplyBatch(authors,
+                likeRepo.getLikeCountsForReplies(ids),
+                reactionService.filter(securityUtil.getAuthenticatedUserIdOrNull(),
+                        UserReactionEvent.Kind.REPLY_LIKE, ids));
+    }
+
+    /** 여러 댓글 → DTO */
+    private List<ReplyResponse> toResponses(List<Reply> replies) {
+        ReplyBatch batch = loadBatch(replies);
+        return replies.stream().map(r -> toResponse(r, batch)).collect(Collectors.toList());
+    }
+
     private ReplyResponse toResponse(Reply r) {
+        return toResponse(r, loadBatch(List.of(r)));
+    }
+
+    /** Entity → DTO 변환 헬퍼 */
+    private ReplyResponse toResponse(Reply r, ReplyBatch batch) {
+        AuthorProfile author = r.getUser() != null ? batch.authors().get(r.getUser().getId()) : null;
         return ReplyResponse.builder()
                 .id(r.getId())
                 .contentId(r.getContentId())
                 .parentReplyId(r.getParentReply() != null ? r.getParentReply().getId() : null)
                 .depth(r.getDepth())
                 .text(r.getIsDeleted() ? "삭제된 댓글입니다." : r.getText())
-                .nickname(r.getUser().getNickname())
-                .profileImageUrl(r.getUser() != null ? userService.getProfileImageUrl(r.getUser().getId()) : null)
+                .nickname(author != null ? author.nickname() : null)
+                .profileImageUrl(author != null ? author.profileImageUrl() : null)
                 .createdAt(r.getCreatedAt())
                 .isDeleted(r.getIsDeleted())
+                .likeCount(batch.likeCounts().getOrDefault(r.getId(), 0L))
+                .likedByMe(batch.likedByMe().contains(r.getId()))
                 .build();
     }
 }
\ No newline at end of file
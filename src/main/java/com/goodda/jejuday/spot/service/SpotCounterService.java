@@ -0,0 +1,139 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.common.cache.LruCache;
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotEngagementEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요/조회수 write-behind 카운터.
+ * 증감은 스팟별 LongAdder(스트라이프 카운터)에 누적하고, 주기적으로 spot.like_count / view_count 에 일괄 UPDATE 한다.
+ * 조회 시에는 DB 값 + 아직 반영되지 않은 증감분을 더해 read-your-writes 를 보장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotCounterService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE spot SET like_count = like_count + ?, view_count = view_count + ? WHERE id = ?";
+
+    private static final String LIKE_COUNT_SQL = "SELECT like_count FROM spot WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 엔트리는 제거하지 않음: 제거와 동시 증가가 겹치면 증감분이 유실될 수 있으므로 (스팟 수만큼만 유지됨)
+    private final Map<Long, LongAdder> pendingLikes = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    // 상세 응답용 DB 좋아요 수 (엔티티 없이 id 로 조회할 때). 반영하면 해당 스팟만 지우고, TTL 은 다른 인스턴스의 반영분 대비
+    private final LruCache<Long, Integer> likeBase = new LruCache<>(10_000, 30_000);
+    // 반영 세대: 반영 전에 읽은 DB 값이 반영 후에 캐시에 남지 않도록
+    private final AtomicLong flushEpoch = new AtomicLong();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(SpotEngagementEvent event) {
+        if (event.likeDelta() != 0) {
+            pendingLikes.computeIfAbsent(event.spotId(), k -> new LongAdder()).add(event.likeDelta());
+        }
+        if (event.viewDelta() != 0) {
+            pendingViews.computeIfAbsent(event.spotId(), k -> new LongAdder()).add(event.viewDelta());
+        }
+    }
+
+    /** DB 값 + 미반영 증감분 */
+    public int likeCount(Spot spot) {
+        return nullToZero(spot.getLikeCount()) + (int) pending(pendingLikes, spot.getId());
+    }
+
+    public int viewCount(Spot spot) {
+        return nullToZero(spot.getViewCount()) + (int) pending(pendingViews, spot.getId());
+    }
+
+    /** id 기준 좋아요 수 (DB 값은 PK 조회 후 잠시 캐시) + 미반영 증감분 */
+    public int likeCount(Long spotId) {
+        Integer base = likeBase.get(spotId);
+        if (base == null) {
+            long epoch = flushEpoch.get();
+            Integer loaded = jdbcTemplate.query(LIKE_COUNT_SQL, rs -> rs.next() ? rs.getInt(1) : 0, spotId);
+            base = loaded == null ? 0 : loaded;
+            likeBase.put(spotId, base);
+            // 읽는 사이 반영이 끼었으면 DB 값이 낡았을 수 있으므로 버림 (반영 쪽 제거와 순서가 엇갈려도 남지 않도록 넣은 뒤 확인)
+            if (flushEpoch.get() != epoch) likeBase.remove(spotId);
+        }
+        return base + (int) pending(pendingLikes, spotId);
+    }
+
+    /** 아직 DB 에 반영되지 않은 증감분 */
+    public long pendingLikeDelta(Long spotId) {
+        return pending(pendingLikes, spotId);
+    }
+
+    public long pendingViewDelta(Long spotId) {
+        return pending(pendingViews, spotId);
+    }
+
+    @Scheduled(fixedDelayString = "${spot.counter.flush-interval:5000}")
+    public void flush() {
+        Map<Long, long[]> deltas = new HashMap<>();
+        drainInto(pendingLikes, deltas, 0);
+        drainInto(pendingViews, deltas, 1);
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((spotId, d) -> batchArgs.add(new Object[]{d[0], d[1], spotId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            log.debug("스팟 카운터 반영 완료: {}건", batchArgs.size());
+        } catch (Exception e) {
+            // 실패한 증감분은 다음 주기에 다시 반영
+            deltas.forEach((spotId, d) -> {
+                if (d[0] != 0) pendingLikes.computeIfAbsent(spotId, k -> new LongAdder()).add(d[0]);
+                if (d[1] != 0) pendingViews.computeIfAbsent(spotId, k -> new LongAdder()).add(d[1]);
+            });
+            log.warn("스팟 카운터 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+        flushEpoch.incrementAndGet();
+        deltas.forEach((spotId, d) -> {
+            if (d[0] != 0) likeBase.remove(spotId);
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void drainInto(Map<Long, LongAdder> pending, Map<Long, long[]> deltas, int slot) {
+        pending.forEach((spotId, adder) -> {
+            long v = adder.sumThenReset();
+            if (v != 0) {
+                deltas.computeIfAbsent(spotId, k -> new long[2])[slot] += v;
+            }
+        });
+    }
+
+    private long pending(Map<Long, LongAdder> pending, Long spotId) {
+        LongAdder adder = pending.get(spotId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private int nullToZero(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
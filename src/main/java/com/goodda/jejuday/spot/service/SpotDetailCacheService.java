@@ -0,0 +1,212 @@
+package com.goodda.jejuday.spot.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.goodda.jejuday.common.cache.LruCache;
+import com.goodda.jejuday.spot.dto.SpotDetailSnapshot;
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.event.SpotRepliesChangedEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 스팟 상세(공유 부분) 2단 캐시: 로컬 LRU(L1) → Redis(L2) → DB.
+ * 수정/삭제/승격, 댓글 변경 시 L2 를 지우고 pub/sub 로 모든 인스턴스의 L1 을 비운다.
+ * 좋아요/조회 카운터는 스냅샷에 없으므로 카운터 반영으로는 무효화하지 않는다.
+ * 무효화 전에 DB 를 읽은 조회가 무효화 뒤에 낡은 값을 써 넣지 못하도록
+ * L2 는 스팟별 버전(무효화 때 INCR)을 같이 저장해 읽을 때 비교하고, L1 은 무효화 세대를 확인한다.
+ * 같은 스팟에 대한 동시 미스는 DB 조회 한 번으로 합친다.
+ */
+@Slf4j
+@Service
+public class SpotDetailCacheService {
+
+    private static final String KEY_PREFIX = "spot:detail:";
+    private static final String VERSION_PREFIX = "spot:detail:ver:";
+    private static final String INVALIDATE_CHANNEL = "spot:detail:invalidate";
+
+    private final SpotRepository spotRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LruCache<Long, SpotDetailSnapshot> local;
+    private final Duration redisTtl;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // 필드가 빠진 스냅샷 형식 변경 후에도 이전 형식의 L2 값을 그대로 읽도록
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private final Map<Long, CompletableFuture<SpotDetailSnapshot>> inFlight = new ConcurrentHashMap<>();
+    // L1 무효화 세대 (이 인스턴스에 무효화가 들어올 때마다 증가)
+    private final AtomicLong localEpoch = new AtomicLong();
+
+    /** L2 저장 형태: 저장 시점의 버전 + 스냅샷 */
+    record Stored(long version, SpotDetailSnapshot snapshot) {}
+
+    public SpotDetailCacheService(SpotRepository spotRepository,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${spot.detail-cache.local-max-size:10000}") int localMaxSize,
+                                  @Value("${spot.detail-cache.local-ttl:30s}") Duration localTtl,
+                                  @Value("${spot.detail-cache.redis-ttl:10m}") Duration redisTtl) {
+        this.spotRepository = spotRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.local = new LruCache<>(localMaxSize, localTtl.toMillis());
+        this.redisTtl = redisTtl;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            localEpoch.incrementAndGet();
+            for (String id : new String(message.getBody()).split(",")) {
+                if (!id.isBlank()) local.remove(Long.valueOf(id.trim()));
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    public SpotDetailSnapshot get(Long spotId) {
+        SpotDetailSnapshot cached = local.get(spotId);
+        if (cached != null) return cached;
+
+        CompletableFuture<SpotDetailSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<SpotDetailSnapshot> running = inFlight.putIfAbsent(spotId, mine);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            long epoch = localEpoch.get();
+            SpotDetailSnapshot loaded = loadFromRedis(spotId);
+            if (loaded == null) {
+                // 버전을 DB 조회보다 먼저 읽음: 그 사이 무효화되면 낡은 버전으로 저장되어 읽을 때 버려진다
+                long version = currentVersion(spotId);
+                loaded = loadFromDb(spotId);
+                saveToRedis(loaded, version);
+            }
+            local.put(spotId, loaded);
+            // 로드 중에 무효화가 들어왔으면 L1 에 남기지 않음 (무효화 쪽 제거와 엇갈려도 남지 않도록 넣은 뒤 확인)
+            if (localEpoch.get() != epoch) local.remove(spotId);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(spotId, mine);
+        }
+    }
+
+    public void evict(Long spotId) {
+        evictAll(List.of(spotId));
+    }
+
+    public void evictAll(Collection<Long> spotIds) {
+        if (spotIds.isEmpty()) return;
+        localEpoch.incrementAndGet();
+        spotIds.forEach(local::remove);
+        try {
+            // 버전을 먼저 올리고 지움: 이전 버전으로 늦게 저장된 값은 읽을 때 버려진다
+            Duration versionTtl = redisTtl.multipliedBy(2);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long id : spotIds) {
+                        operations.opsForValue().increment(VERSION_PREFIX + id);
+                        operations.expire(VERSION_PREFIX + id, versionTtl);
+                        operations.delete(KEY_PREFIX + id);
+                    }
+                    return null;
+                }
+            });
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL,
+                    spotIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("상세 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        if (event.spotId() != null) evict(event.spotId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRepliesChanged(SpotRepliesChangedEvent event) {
+        evict(event.spotId());
+    }
+
+    private SpotDetailSnapshot loadFromDb(Long spotId) {
+        Spot s = spotRepository.findDetailWithUserAndTagsById(spotId)
+                .orElseThrow(() -> new EntityNotFoundException("Spot not found"));
+        return SpotDetailSnapshot.from(s, s.getReplyCount() == null ? 0 : s.getReplyCount());
+    }
+
+    // 값과 현재 버전을 한 번에 읽고, 버전이 다르면(무효화 이전에 읽은 값) 미스로 처리
+    private SpotDetailSnapshot loadFromRedis(Long spotId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + spotId, VERSION_PREFIX + spotId));
+            if (values == null || values.get(0) == null) return null;
+            Stored stored = objectMapper.readValue(values.get(0), Stored.class);
+            return stored.version() == parseVersion(values.get(1)) ? stored.snapshot() : null;
+        } catch (Exception e) {
+            log.warn("상세 캐시 조회 실패: spotId={}, {}", spotId, e.getMessage());
+            return null;
+        }
+    }
+
+    private long currentVersion(Long spotId) {
+        try {
+            return parseVersion(redisTemplate.opsForValue().get(VERSION_PREFIX + spotId));
+        } catch (Exception e) {
+            return -1; // Redis 장애: L2 저장은 건너뜀
+        }
+    }
+
+    private static long parseVersion(String v) {
+        return v == null ? 0 : Long.parseLong(v);
+    }
+
+    private void saveToRedis(SpotDetailSnapshot snapshot, long version) {
+        if (version < 0) return;
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + snapshot.id(),
+                    objectMapper.writeValueAsString(new Stored(version, snapshot)), redisTtl);
+        } catch (Exception e) {
+            log.warn("상세 캐시 저장 실패: spotId={}, {}", snapshot.id(), e.getMessage());
+        }
+    }
+
+    private static SpotDetailSnapshot join(CompletableFuture<SpotDetailSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
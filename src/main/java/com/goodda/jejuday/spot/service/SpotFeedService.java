@@ -0,0 +1,296 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.event.SpotEngagementEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.goodda.jejuday.notification.util.NotificationConstants.LIKE_WEIGHT;
+import static com.goodda.jejuday.notification.util.NotificationConstants.VIEW_WEIGHT;
+
+/**
+ * 커뮤니티 피드(최신/조회수/좋아요/트렌딩) Redis ZSET.
+ * 작성/수정/승격/삭제(SpotChangedEvent)와 좋아요/조회(SpotEngagementEvent) 때 해당 멤버 점수만 갱신하고,
+ * 조회는 ZREVRANGE 로 id 한 페이지를 받아 한 번의 IN 쿼리로 엔티티를 채운다.
+ * Redis 장애나 재구성 중에는 Optional.empty() 를 돌려주고 호출 측이 DB 쿼리로 대체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotFeedService {
+
+    public enum Feed {
+        LATEST("spot:feed:latest"),
+        MOST_VIEWED("spot:feed:views"),
+        MOST_LIKED("spot:feed:likes"),
+        TRENDING("spot:feed:trending");
+
+        private final String key;
+
+        Feed(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    private static final int REBUILD_CHUNK = 1000;
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final long TRENDING_EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0)
+            .atZone(ZoneId.systemDefault()).toEpochSecond();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpotRepository spotRepository;
+    private final SpotCounterService counterService;
+
+    private volatile boolean ready;
+
+    // 재구성 중 상태 (rebuildLock 으로 보호). 재구성 중이 아니면 rebuildBuffer == null
+    // 이미 스캔한 스팟에 들어온 증감분은 임시 키 값에 빠져 있으므로 모아 두었다가 RENAME 뒤 다시 적용한다.
+    private final Object rebuildLock = new Object();
+    private final Set<Long> rebuildScanned = ConcurrentHashMap.newKeySet();
+    private Map<Long, long[]> rebuildBuffer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initFeeds() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("피드 초기화 실패, DB 쿼리로 대체: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기준으로 모든 피드를 다시 만든다. (복구용)
+     * 임시 키에 채운 뒤 RENAME 으로 교체하므로 재구성 중에도 기존 피드는 그대로 읽힌다.
+     * 재구성 중 작성/삭제는 임시 키에도 같이 쓰고, 스캔을 마친 스팟의 좋아요/조회 증감분은 교체 후 다시 적용한다.
+     */
+    public synchronized int rebuild() {
+        for (Feed feed : Feed.values()) {
+            redisTemplate.delete(feed.key() + REBUILD_SUFFIX);
+        }
+        synchronized (rebuildLock) {
+            rebuildScanned.clear();
+            rebuildBuffer = new HashMap<>();
+        }
+        try {
+            int total = stageAndSwap();
+            ready = true;
+            log.info("스팟 피드 재구성 완료: {}건", total);
+            return total;
+        } finally {
+            synchronized (rebuildLock) {
+                rebuildBuffer = null;
+            }
+            rebuildScanned.clear();
+        }
+    }
+
+    private int stageAndSwap() {
+        Map<Feed, Set<TypedTuple<String>>> chunk = new EnumMap<>(Feed.class);
+        for (Feed feed : Feed.values()) chunk.put(feed, new HashSet<>());
+        int[] total = {0};
+
+        jdbcTemplate.query(
+                "SELECT id, created_at, view_count, like_count FROM spot WHERE is_deleted = false",
+                (RowCallbackHandler) rs -> {
+                    long id = rs.getLong("id");
+                    // 카운터를 읽기 전에 표시: 이후 들어온 증감분은 버퍼로 간다
+                    rebuildScanned.add(id);
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    long created = createdAt == null ? 0 : createdAt.toLocalDateTime()
+                            .atZone(ZoneId.systemDefault()).toEpochSecond();
+                    // 아직 DB 에 반영되지 않은 카운터 증감분까지 포함
+                    long views = rs.getLong("view_count") + counterService.pendingViewDelta(id);
+                    long likes = rs.getLong("like_count") + counterService.pendingLikeDelta(id);
+
+                    String member = String.valueOf(id);
+                    chunk.get(Feed.LATEST).add(new DefaultTypedTuple<>(member, (double) created));
+                    chunk.get(Feed.MOST_VIEWED).add(new DefaultTypedTuple<>(member, (double) views));
+                    chunk.get(Feed.MOST_LIKED).add(new DefaultTypedTuple<>(member, (double) likes));
+                    chunk.get(Feed.TRENDING).add(new DefaultTypedTuple<>(member, trendingScore(likes, views, created)));
+                    if (++total[0] % REBUILD_CHUNK == 0) flushChunk(chunk);
+                });
+        flushChunk(chunk);
+
+        Map<Long, long[]> replay;
+        synchronized (rebuildLock) {
+            for (Feed feed : Feed.values()) {
+                String tmp = feed.key() + REBUILD_SUFFIX;
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(tmp))) {
+                    redisTemplate.rename(tmp, feed.key());
+                } else {
+                    redisTemplate.delete(feed.key());
+                }
+            }
+            replay = rebuildBuffer;
+            rebuildBuffer = null;
+        }
+        // 교체 이후 이벤트는 새 키에 바로 반영되고, 증감은 순서와 무관하게 더해진다
+        replay.forEach((spotId, d) -> applyEngagement(spotId, d[0], d[1]));
+        return total[0];
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        if (event.spotId() == null) return;
+        synchronized (rebuildLock) {
+            if (rebuildBuffer != null) {
+                // 재구성 중: 스캔 이후 작성/삭제가 교체 때 사라지지 않도록 임시 키에도 반영
+                // (임시 키에 값이 생겼으니 이후 증감분은 스캔한 스팟처럼 버퍼로)
+                applyChange(event, "");
+                applyChange(event, REBUILD_SUFFIX);
+                rebuildScanned.add(event.spotId());
+                return;
+            }
+        }
+        applyChange(event, "");
+    }
+
+    private void applyChange(SpotChangedEvent event, String suffix) {
+        try {
+            Spot s = event.spot();
+            String member = String.valueOf(s.getId());
+            ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
+
+            if (event.changeType() == SpotChangedEvent.ChangeType.DELETED || Boolean.TRUE.equals(s.getIsDeleted())) {
+                for (Feed feed : Feed.values()) {
+                    zset.remove(feed.key() + suffix, member);
+                }
+                return;
+            }
+
+            long created = epochSecond(s.getCreatedAt());
+            zset.add(Feed.LATEST.key() + suffix, member, created);
+            // 카운트 기반 피드는 이미 있으면 건드리지 않음 (증분으로 누적된 값 보존)
+            zset.addIfAbsent(Feed.MOST_VIEWED.key() + suffix, member, nullToZero(s.getViewCount()));
+            zset.addIfAbsent(Feed.MOST_LIKED.key() + suffix, member, nullToZero(s.getLikeCount()));
+            zset.addIfAbsent(Feed.TRENDING.key() + suffix, member,
+                    trendingScore(nullToZero(s.getLikeCount()), nullToZero(s.getViewCount()), created));
+        } catch (Exception e) {
+            log.warn("피드 갱신 실패: spotId={}, {}", event.spotId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(SpotEngagementEvent event) {
+        synchronized (rebuildLock) {
+            if (rebuildBuffer != null) {
+                if (rebuildScanned.contains(event.spotId())) {
+                    long[] d = rebuildBuffer.computeIfAbsent(event.spotId(), k -> new long[2]);
+                    d[0] += event.likeDelta();
+                    d[1] += event.viewDelta();
+                }
+                // 교체 전까지 읽히는 기존 키에도 반영 (교체와 겹치지 않도록 잠금 안에서)
+                applyEngagement(event.spotId(), event.likeDelta(), event.viewDelta());
+                return;
+            }
+        }
+        applyEngagement(event.spotId(), event.likeDelta(), event.viewDelta());
+    }
+
+    private void applyEngagement(Long spotId, long likeDelta, long viewDelta) {
+        try {
+            String member = String.valueOf(spotId);
+            ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
+
+            // 피드에 없는(삭제된) 스팟은 ZINCRBY 로 되살리지 않음
+            Double created = zset.score(Feed.LATEST.key(), member);
+            if (created == null) return;
+
+            Double likes = likeDelta != 0
+                    ? zset.incrementScore(Feed.MOST_LIKED.key(), member, likeDelta)
+                    : zset.score(Feed.MOST_LIKED.key(), member);
+            Double views = viewDelta != 0
+                    ? zset.incrementScore(Feed.MOST_VIEWED.key(), member, viewDelta)
+                    : zset.score(Feed.MOST_VIEWED.key(), member);
+            zset.add(Feed.TRENDING.key(), member, trendingScore(
+                    likes == null ? 0 : likes.longValue(),
+                    views == null ? 0 : views.longValue(),
+                    created.longValue()));
+        } catch (Exception e) {
+            log.warn("피드 점수 갱신 실패: spotId={}, {}", spotId, e.getMessage());
+        }
+    }
+
+    /** 피드 한 페이지 (점수 내림차순). 피드를 쓸 수 없으면 empty. */
+    public Optional<Page<Spot>> read(Feed feed, Pageable pageable) {
+        if (!ready) return Optional.empty();
+        try {
+            long start = pageable.getOffset();
+            long end = start + pageable.getPageSize() - 1;
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(feed.key(), start, end);
+            Long total = redisTemplate.opsForZSet().zCard(feed.key());
+            if (members == null || total == null) return Optional.empty();
+
+            List<Long> ids = members.stream().map(Long::valueOf).collect(Collectors.toList());
+            Map<Long, Spot> byId = ids.isEmpty() ? Map.of() : spotRepository.findAllWithUserByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Spot::getId, Function.identity()));
+
+            List<Spot> content = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Spot s = byId.get(id);
+                if (s != null && !Boolean.TRUE.equals(s.getIsDeleted())) content.add(s);
+            }
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } catch (Exception e) {
+            log.warn("피드 조회 실패, DB 쿼리로 대체: feed={}, {}", feed, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // Reddit hot 점수: log10(참여도) + 작성 시각(초) / 45000
+    static double trendingScore(long likes, long views, long createdEpochSecond) {
+        long engagement = likes * LIKE_WEIGHT + views * VIEW_WEIGHT;
+        return Math.log10(Math.max(engagement, 1)) + (createdEpochSecond - TRENDING_EPOCH) / 45000.0;
+    }
+
+    private void flushChunk(Map<Feed, Set<TypedTuple<String>>> chunk) {
+        for (Map.Entry<Feed, Set<TypedTuple<String>>> e : chunk.entrySet()) {
+            if (e.getValue().isEmpty()) continue;
+            redisTemplate.opsForZSet().add(e.getKey().key() + REBUILD_SUFFIX, e.getValue());
+            e.getValue().clear();
+        }
+    }
+
+    private static long epochSecond(LocalDateTime t) {
+        return t == null ? 0 : t.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static int nullToZero(Integer v) {
+        return v == null ? 0 : v;
+    }
+}
@@ -0,0 +1,113 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.entity.Spot.SpotType;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import com.goodda.jejuday.spot.search.SpotClusterIndex;
+import com.goodda.jejuday.spot.search.SpotGridIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도 노출 스팟(SPOT/CHALLENGE)의 위치 인덱스 + 줌 레벨별 클러스터 인덱스.
+ * 시작 시 DB 에서 한 번 적재하고, 이후에는 SpotChangedEvent 로 증분 갱신한다.
+ * 좋아요는 SpotChangedEvent 없이 카운터로 반영되므로 클러스터 대표 가중치는 검색 인기도 재적재 주기마다 다시 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotGeoIndexService {
+
+    private static final List<SpotType> MAP_TYPES = List.of(SpotType.SPOT, SpotType.CHALLENGE);
+
+    private final SpotRepository spotRepository;
+    private final SpotGridIndex index = new SpotGridIndex();
+    private final SpotClusterIndex clusterIndex = new SpotClusterIndex();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        index.clear();
+        clusterIndex.clear();
+        List<Spot> spots = spotRepository.findAllByTypeIn(MAP_TYPES);
+        for (Spot s : spots) {
+            apply(s);
+        }
+        ready = true;
+        log.info("위치 인덱스 초기화 완료: {}건", index.size());
+    }
+
+    // 클러스터 대표(좋아요 최다 스팟)를 현재 좋아요 수 기준으로 다시 고름
+    @Scheduled(initialDelayString = "${spot.search.reload-interval:3600000}",
+            fixedDelayString = "${spot.search.reload-interval:3600000}")
+    public void refreshClusterWeights() {
+        if (!ready) return;
+        List<Object[]> rows = spotRepository.findLikeCountsByTypeIn(MAP_TYPES);
+        Map<Long, Double> weights = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            Integer likeCount = (Integer) row[1];
+            weights.put((Long) row[0], likeCount == null ? 0.0 : likeCount);
+        }
+        clusterIndex.updateWeights(weights);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        apply(event.spot());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 반경 내 스팟 (가까운 순) */
+    public List<SpotGridIndex.Hit> findWithinRadius(double lat, double lng, double radiusKm) {
+        return index.withinRadius(lat, lng, radiusKm);
+    }
+
+    /** 가장 가까운 k개 스팟 (maxRadiusKm 이내, 가까운 순) */
+    public List<SpotGridIndex.Hit> findNearest(double lat, double lng, int k, double maxRadiusKm) {
+        return index.nearest(lat, lng, k, maxRadiusKm);
+    }
+
+    /** 기준점에서 각 스팟까지 거리(km). 지도 인덱스에 없는 스팟은 NaN */
+    public double[] distancesKm(double lat, double lng, long[] spotIds) {
+        return index.distancesKm(lat, lng, spotIds);
+    }
+
+    /** 화면 영역 + 줌 레벨 기준 마커 클러스터 */
+    public List<SpotClusterIndex.Cluster> findClusters(double swLat, double swLng,
+                                                       double neLat, double neLng, int zoom) {
+        return clusterIndex.query(swLat, swLng, neLat, neLng, zoom);
+    }
+
+    private void apply(Spot s) {
+        if (s.getId() == null) return;
+        if (isMapVisible(s)) {
+            double lat = s.getLatitude().doubleValue();
+            double lng = s.getLongitude().doubleValue();
+            index.upsert(s.getId(), lat, lng);
+            // 좋아요가 가장 많은 스팟을 클러스터 대표로
+            clusterIndex.upsert(s.getId(), lat, lng, s.getLikeCount() == null ? 0 : s.getLikeCount());
+        } else {
+            index.remove(s.getId());
+            clusterIndex.remove(s.getId());
+        }
+    }
+
+    static boolean isMapVisible(Spot s) {
+        return MAP_TYPES.contains(s.getType())
+                && !Boolean.TRUE.equals(s.getIsDeleted())
+                && s.getLatitude() != null && s.getLongitude() != null;
+    }
+}
@@ -8,12 +8,22 @@ import java.util.List;
 
 public interface SpotSearchService {
     /**
-     * 지도 검색 (Trie → ID 목록 → DB 조회)
+     * 지도 검색 (Trie → 인기순 상위 ID → DB 조회). 초성("ㅅㅅㅇ")/입력 중 음절("성사")도 매칭
      * @param prefix 검색어 prefix
-     * @return matching Spot 목록
+     * @return matching Spot 목록 (인기순, 최대 20개)
      */
     List<Spot> searchMapSpotsByTrie(String prefix);
 
+    /**
+     * 지도 검색 (위치 기준). 검색어 후보 중 거리 + 인기도 결합 점수 상위 size 개만 DB 조회
+     * @param prefix 검색어 prefix
+     * @param latitude 사용자 위도 (null 이면 인기순)
+     * @param longitude 사용자 경도 (null 이면 인기순)
+     * @param size 반환 개수 (최대 20개)
+     * @return matching Spot 목록 (점수순)
+     */
+    List<Spot> searchMapSpots(String prefix, Double latitude, Double longitude, int size);
+
     /**
      * 커뮤니티 검색 (SQL LIKE + 페이징)
      * @param query 검색어
@@ -21,4 +31,13 @@ public interface SpotSearchService {
      * @return 페이징된 Spot 목록
      */
     Page<Spot> searchCommunitySpotsBySql(String query, Pageable pageable);
+
+    /**
+     * 커뮤니티 검색 (이름/태그/설명 n-gram 색인 + BM25 관련도순).
+     * 색인이 준비되기 전에는 SQL LIKE 검색으로 대체한다.
+     * @param query 검색어
+     * @param pageable 페이징 정보 (정렬은 SQL 대체 시에만 사용)
+     * @return 페이징된 Spot 목록
+     */
+    Page<Spot> searchCommunitySpots(String query, Pageable pageable);
 }
\ No newline at end of file
@@ -3,52 +3,290 @@ package com.goodda.jejuday.spot.service;
 import com.goodda.jejuday.spot.entity.Spot;
 import com.goodda.jejuday.spot.entity.Spot.SpotType;
 import com.goodda.jejuday.spot.repository.SpotRepository;
-import com.goodda.jejuday.spot.search.SpotTrie;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.search.CompactSpotTrie;
+import com.goodda.jejuday.spot.search.HangulJamo;
+import com.goodda.jejuday.spot.search.SpotGridIndex;
+import com.goodda.jejuday.spot.search.SpotJamoIndex;
+import com.goodda.jejuday.spot.search.SpotSearchIndex;
+import com.goodda.jejuday.spot.search.SpotTextIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.context.event.EventListener;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import javax.annotation.PostConstruct;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.goodda.jejuday.notification.util.NotificationConstants.LIKE_WEIGHT;
+import static com.goodda.jejuday.notification.util.NotificationConstants.VIEW_WEIGHT;
+
+@Slf4j
 @Service
 public class SpotSearchServiceImpl implements SpotSearchService {
 
     private final SpotRepository spotRepository;
-    private final SpotTrie trie = new SpotTrie();
+    private final SpotTextSearchService textSearchService;
+    private final SpotGeoIndexService geoIndexService;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "spot-search-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+    private final SpotSearchIndex index;
+    // 초성/입력 중 음절 검색용 ("ㅅㅅㅇ", "성ㅅ", "성사")
+    private final SpotJamoIndex jamoIndex;
 
     // 지도에 노출할 타입 (POST 제외)
     private static final List<SpotType> MAP_TYPES =
         List.of(SpotType.SPOT, SpotType.CHALLENGE);
 
+    // prefix 당 반환 개수 (인기순)
+    private static final int TOP_K = CompactSpotTrie.DEFAULT_TOP_K;
+
+    // 위치 기준 지도 검색: 점수를 매길 최대 후보 수와 거리/인기도 가중치
+    private static final int MAP_CANDIDATE_CAP = 2_000;
+    // 일치 스팟이 상한을 넘을 때: 인기순 상위 몇 개 + 이 반경 안의 일치 스팟으로 후보를 채움
+    private static final int MAP_POPULAR_CANDIDATES = 500;
+    private static final double MAP_NEARBY_RADIUS_KM = 15.0;
+    private static final double DISTANCE_WEIGHT = 0.6;
+    private static final double POPULARITY_WEIGHT = 0.4;
+    private static final double DISTANCE_SCALE_KM = 5.0; // 이 거리에서 거리 점수가 절반
+
+    // 재적재 중 바뀐 스팟의 최신 상태 (null 값 = 제거). 재적재 중이 아니면 null, reloadLock 으로 보호
+    private final Object reloadLock = new Object();
+    private Map<Long, SpotSearchIndex.Entry> changedDuringReload;
+
+    // 오타 허용 검색 예산
+    private final int fuzzyMaxNodes;
+    private final long fuzzyBudgetNanos;
+
     @Autowired
-    public SpotSearchServiceImpl(SpotRepository spotRepository) {
+    public SpotSearchServiceImpl(SpotRepository spotRepository,
+                                 SpotTextSearchService textSearchService,
+                                 SpotGeoIndexService geoIndexService,
+                                 @Value("${spot.search.rebuild-threshold:512}") int rebuildThreshold,
+                                 @Value("${spot.search.fuzzy-max-nodes:20000}") int fuzzyMaxNodes,
+                                 @Value("${spot.search.fuzzy-budget-ms:5}") long fuzzyBudgetMs) {
         this.spotRepository = spotRepository;
+        this.textSearchService = textSearchService;
+        this.geoIndexService = geoIndexService;
+        this.fuzzyMaxNodes = fuzzyMaxNodes;
+        this.fuzzyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(fuzzyBudgetMs);
+        this.index = new SpotSearchIndex(TOP_K, rebuildThreshold, rebuildExecutor);
+        this.jamoIndex = new SpotJamoIndex(TOP_K, rebuildThreshold, rebuildExecutor);
     }
 
     /**
-     * 애플리케이션 시작 시 SPOT/CHALLENGE 이름으로 Trie 인덱스 초기화
+     * 애플리케이션 시작 시 SPOT/CHALLENGE 이름으로 Trie 인덱스 초기화.
+     * 이후에는 SpotChangedEvent 로 증분 갱신하고, 인기도는 주기적으로 다시 적재한다.
+     * DB 를 읽기 시작한 뒤 들어온 변경은 따로 모아 두었다가 교체 후 다시 적용한다 (읽은 값이 그보다 낡았을 수 있으므로).
      */
     @EventListener(ApplicationReadyEvent.class)
-    public void initTrie() {
-        List<Spot> spots = spotRepository.findAllByTypeIn(MAP_TYPES);
-        for (Spot s : spots) {
-            trie.insert(s.getName(), s.getId());
+    public synchronized void initTrie() {
+        synchronized (reloadLock) {
+            changedDuringReload = new HashMap<>();
+        }
+        try {
+            List<Object[]> rows = spotRepository.findSearchRowsByTypeIn(MAP_TYPES);
+            Map<Long, SpotSearchIndex.Entry> entries = new HashMap<>(rows.size() * 2);
+            for (Object[] row : rows) {
+                String name = CompactSpotTrie.normalize((String) row[1]);
+                if (!name.isEmpty()) {
+                    entries.put((Long) row[0], new SpotSearchIndex.Entry(name, popularity((Integer) row[2], (Integer) row[3])));
+                }
+            }
+            index.load(entries);
+            jamoIndex.load(entries);
+            log.info("검색 트라이 초기화 완료: {}건", entries.size());
+        } finally {
+            // 교체 전후 어느 쪽에 적용됐든 마지막 상태로 맞춤 (실패해도 모으기는 중단)
+            synchronized (reloadLock) {
+                Map<Long, SpotSearchIndex.Entry> replay = changedDuringReload;
+                changedDuringReload = null;
+                replay.forEach(this::apply);
+            }
+        }
+    }
+
+    // 좋아요/조회수는 변경마다 반영하지 않고 주기적으로 전체 재적재
+    @Scheduled(initialDelayString = "${spot.search.reload-interval:3600000}",
+            fixedDelayString = "${spot.search.reload-interval:3600000}")
+    public void reloadPopularity() {
+        initTrie();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        Spot s = event.spot();
+        if (s.getId() == null) return;
+        String name = CompactSpotTrie.normalize(s.getName());
+        // 삭제, 지도 노출 대상이 아닌 타입, 빈 이름은 제거
+        SpotSearchIndex.Entry entry = SpotGeoIndexService.isMapVisible(s) && !name.isEmpty()
+                ? new SpotSearchIndex.Entry(name, popularity(s)) : null;
+        synchronized (reloadLock) {
+            if (changedDuringReload != null) changedDuringReload.put(s.getId(), entry);
+            apply(s.getId(), entry);
+        }
+    }
+
+    private void apply(Long spotId, SpotSearchIndex.Entry entry) {
+        if (entry != null) {
+            index.upsert(spotId, entry.name(), entry.popularity());
+            jamoIndex.upsert(spotId, entry.name(), entry.popularity());
+        } else {
+            index.remove(spotId);
+            jamoIndex.remove(spotId);
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
     @Override
     public List<Spot> searchMapSpotsByTrie(String prefix) {
-        Set<Long> ids = trie.searchByPrefix(prefix);
-        if (ids.isEmpty()) {
+        return findAllInOrder(mapHits(prefix).stream().map(CompactSpotTrie.Hit::spotId).collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Spot> searchMapSpots(String prefix, Double latitude, Double longitude, int size) {
+        int k = Math.max(1, Math.min(size, TOP_K));
+        if (latitude == null || longitude == null || !geoIndexService.isReady()) {
+            List<CompactSpotTrie.Hit> hits = mapHits(prefix);
+            return findAllInOrder(hits.stream().limit(k).map(CompactSpotTrie.Hit::spotId).collect(Collectors.toList()));
+        }
+
+        List<CompactSpotTrie.Hit> candidates = mapCandidates(prefix, latitude, longitude);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long[] ids = candidates.stream().mapToLong(CompactSpotTrie.Hit::spotId).toArray();
+        double[] distances = geoIndexService.distancesKm(latitude, longitude, ids);
+        double maxPopularity = candidates.stream().mapToDouble(CompactSpotTrie.Hit::popularity).max().orElse(0);
+        double popularityNorm = Math.log1p(Math.max(maxPopularity, 0));
+
+        // 점수 상위 k개만 유지하는 최소 힙 (후보 n개에 O(n log k))
+        PriorityQueue<double[]> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(e -> e[1]));
+        for (int i = 0; i < ids.length; i++) {
+            if (Double.isNaN(distances[i])) continue; // 지도 인덱스에 없음 (좌표 없음/삭제)
+            double proximity = 1.0 / (1.0 + distances[i] / DISTANCE_SCALE_KM);
+            double pop = popularityNorm == 0 ? 0 : Math.log1p(Math.max(candidates.get(i).popularity(), 0)) / popularityNorm;
+            heap.add(new double[]{i, DISTANCE_WEIGHT * proximity + POPULARITY_WEIGHT * pop});
+            if (heap.size() > k) heap.poll();
+        }
+        List<double[]> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingDouble((double[] e) -> e[1]).reversed());
+        return findAllInOrder(top.stream().map(e -> ids[(int) e[0]]).collect(Collectors.toList()));
+    }
+
+    /**
+     * 위치 기준 검색 후보. 일치 스팟이 상한 이하이면 전부, 넘으면 인기순 상위와 주변 일치 스팟을 합친다
+     * (짧은 검색어에서 이름순 앞부분만 후보가 되어 가까운 스팟이 빠지지 않도록). 일치가 없으면 오타 허용 결과.
+     */
+    private List<CompactSpotTrie.Hit> mapCandidates(String prefix, double lat, double lng) {
+        if (prefix == null) return Collections.emptyList();
+        List<CompactSpotTrie.Hit> all = matchingHits(prefix, MAP_CANDIDATE_CAP + 1);
+        if (all.isEmpty()) return fuzzyHits(prefix);
+        if (all.size() <= MAP_CANDIDATE_CAP) return all;
+
+        Map<Long, CompactSpotTrie.Hit> picked = new LinkedHashMap<>();
+        for (CompactSpotTrie.Hit h : rankedHits(prefix, MAP_POPULAR_CANDIDATES)) picked.put(h.spotId(), h);
+        // 거리순으로 보므로 상한에서 끊겨도 가까운 쪽이 남음
+        for (SpotGridIndex.Hit g : geoIndexService.findWithinRadius(lat, lng, MAP_NEARBY_RADIUS_KM)) {
+            if (picked.size() >= MAP_CANDIDATE_CAP) break;
+            if (picked.containsKey(g.spotId())) continue;
+            CompactSpotTrie.Hit h = jamoIndex.match(g.spotId(), prefix);
+            if (h != null) picked.put(h.spotId(), h);
+        }
+        return new ArrayList<>(picked.values());
+    }
+
+    // 정확한 prefix + 초성/입력 중 음절 일치 (순서 없음, 최대 limit 개)
+    private List<CompactSpotTrie.Hit> matchingHits(String prefix, int limit) {
+        if (HangulJamo.containsJamo(prefix)) {
+            return jamoIndex.candidateHits(prefix, limit);
+        }
+        List<CompactSpotTrie.Hit> hits = new ArrayList<>(index.candidateHits(prefix, limit));
+        if (hits.size() < limit && HangulJamo.containsSyllable(prefix)) {
+            Set<Long> seen = hits.stream().map(CompactSpotTrie.Hit::spotId).collect(Collectors.toSet());
+            for (CompactSpotTrie.Hit h : jamoIndex.candidateHits(prefix, limit)) {
+                if (hits.size() == limit) break;
+                if (seen.add(h.spotId())) hits.add(h);
+            }
+        }
+        return hits;
+    }
+
+    // 선택된 id 만 조회하고 주어진 순서 유지
+    private List<Spot> findAllInOrder(List<Long> ordered) {
+        if (ordered.isEmpty()) {
             return Collections.emptyList();
         }
-        return spotRepository.findAllById(ids);
+        Map<Long, Spot> byId = spotRepository.findAllById(ordered).stream()
+                .collect(Collectors.toMap(Spot::getId, Function.identity()));
+        return ordered.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // 인기순 상위 TOP_K, 일치가 없으면 오타 허용 검색
+    private List<CompactSpotTrie.Hit> mapHits(String prefix) {
+        if (prefix == null) return Collections.emptyList();
+        List<CompactSpotTrie.Hit> hits = rankedHits(prefix, TOP_K);
+        return hits.isEmpty() ? fuzzyHits(prefix) : hits;
+    }
+
+    // 정확한 prefix 일치를 먼저, 모자라면 초성/입력 중 음절 일치로 채움 (인기순 최대 k개)
+    private List<CompactSpotTrie.Hit> rankedHits(String prefix, int k) {
+        if (HangulJamo.containsJamo(prefix)) {
+            return jamoIndex.topK(prefix, k);
+        }
+        List<CompactSpotTrie.Hit> hits = index.topK(prefix, k);
+        if (hits.size() < k && HangulJamo.containsSyllable(prefix)) {
+            hits = new ArrayList<>(hits);
+            Set<Long> seen = hits.stream().map(CompactSpotTrie.Hit::spotId).collect(Collectors.toSet());
+            for (CompactSpotTrie.Hit h : jamoIndex.topK(prefix, k)) {
+                if (hits.size() == k) break;
+                if (seen.add(h.spotId())) hits.add(h);
+            }
+        }
+        return hits;
+    }
+
+    private List<CompactSpotTrie.Hit> fuzzyHits(String prefix) {
+        int maxEdits = maxEdits(HangulJamo.decompose(CompactSpotTrie.normalize(prefix)).length());
+        if (maxEdits == 0) return Collections.emptyList();
+        long deadline = System.nanoTime() + fuzzyBudgetNanos;
+        return jamoIndex.fuzzy(prefix, maxEdits, TOP_K, fuzzyMaxNodes, deadline).stream()
+                .map(h -> new CompactSpotTrie.Hit(h.spotId(), h.popularity()))
+                .collect(Collectors.toList());
+    }
+
+    // 자모 길이 기준 허용 오타 수 (짧은 검색어는 오타 허용 시 거의 모든 이름이 걸림)
+    static int maxEdits(int jamoLength) {
+        if (jamoLength < 4) return 0;
+        return jamoLength < 9 ? 1 : 2;
     }
 
     @Override
@@ -57,4 +295,33 @@ public class SpotSearchServiceImpl implements SpotSearchService {
         List<SpotType> types = List.of(SpotType.POST, SpotType.SPOT, SpotType.CHALLENGE);
         return spotRepository.findByNameContainingIgnoreCaseAndTypeIn(query, types, pageable);
     }
+
+    @Override
+    public Page<Spot> searchCommunitySpots(String query, Pageable pageable) {
+        if (!textSearchService.isReady()) {
+            return searchCommunitySpotsBySql(query, pageable);
+        }
+        // 매칭/랭킹은 색인에서, DB 는 현재 페이지 id 로만 조회
+        SpotTextIndex.Result result = textSearchService.search(
+                query, (int) pageable.getOffset(), pageable.getPageSize());
+        if (result.hits().isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.total());
+        }
+        List<Long> ordered = result.hits().stream().map(SpotTextIndex.Hit::spotId).collect(Collectors.toList());
+        Map<Long, Spot> byId = spotRepository.findAllWithUserByIdIn(ordered).stream()
+                .collect(Collectors.toMap(Spot::getId, Function.identity()));
+        List<Spot> content = ordered.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    // 인기도: 좋아요 x3 + 조회수 x2 (승격 점수와 같은 가중치)
+    static double popularity(Spot s) {
+        return popularity(s.getLikeCount(), s.getViewCount());
+    }
+
+    static double popularity(Integer likeCount, Integer viewCount) {
+        int likes = likeCount == null ? 0 : likeCount;
+        int views = viewCount == null ? 0 : viewCount;
+        return (double) likes * LIKE_WEIGHT + (double) views * VIEW_WEIGHT;
+    }
 }
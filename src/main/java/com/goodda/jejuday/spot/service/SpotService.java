@@ -27,6 +27,12 @@ public interface SpotService {
     Page<SpotResponse> getLatestSpots(Pageable pageable);
     Page<SpotResponse> getMostViewedSpots(Pageable pageable);
     Page<SpotResponse> getMostLikedSpots(Pageable pageable);
+    Page<SpotResponse> getTrendingSpots(Pageable pageable);
+
+    // 커서(keyset) 기반 피드 - cursor 가 없으면 첫 페이지
+    CursorPageResponse<SpotResponse> getLatestSpots(String cursor, int size);
+    CursorPageResponse<SpotResponse> getMostViewedSpots(String cursor, int size);
+    CursorPageResponse<SpotResponse> getMostLikedSpots(String cursor, int size);
 
     // 마이페이지 관련 메서드
     Page<SpotResponse> getMyPosts(Pageable pageable, String sort);
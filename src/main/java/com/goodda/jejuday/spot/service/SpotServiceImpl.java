@@ -2,28 +2,36 @@ package com.goodda.jejuday.spot.service;
 
 import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.repository.UserThemeRepository;
+import com.goodda.jejuday.auth.service.AuthorProfileCache;
+import com.goodda.jejuday.auth.service.AuthorProfileCache.AuthorProfile;
 import com.goodda.jejuday.auth.util.SecurityUtil;
 import com.goodda.jejuday.spot.dto.*;
 import com.goodda.jejuday.spot.entity.Bookmark;
 import com.goodda.jejuday.spot.entity.Like;
 import com.goodda.jejuday.spot.entity.Reply;
 import com.goodda.jejuday.spot.entity.Spot;
-import com.goodda.jejuday.spot.entity.SpotViewLog;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.event.SpotEngagementEvent;
+import com.goodda.jejuday.spot.event.UserReactionEvent;
 import com.goodda.jejuday.spot.repository.BookmarkRepository;
 import com.goodda.jejuday.spot.repository.LikeRepository;
 import com.goodda.jejuday.spot.repository.ReplyRepository;
 import com.goodda.jejuday.spot.repository.SpotRepository;
-import com.goodda.jejuday.spot.repository.SpotViewLogRepository;
+import com.goodda.jejuday.spot.search.SpotGridIndex;
+import com.goodda.jejuday.spot.search.SpotTagIndex;
+import com.goodda.jejuday.spot.util.FeedCursor;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.goodda.jejuday.auth.service.UserService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -31,6 +39,7 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,7 +49,6 @@ public class SpotServiceImpl implements SpotService {
     private final LikeRepository likeRepository;
     private final ReplyRepository replyRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final SpotViewLogRepository viewLogRepository;
 //    private final UserRepository userRepository;
     private final SecurityUtil securityUtil;
     private final UserThemeRepository userThemeRepository;
@@ -50,6 +58,15 @@ public class SpotServiceImpl implements SpotService {
 
     private final AmazonS3 amazonS3;
     private final UserService userService;
+    private final SpotGeoIndexService geoIndexService;
+    private final SpotCounterService counterService;
+    private final SpotViewLogPipeline viewLogPipeline;
+    private final SpotFeedService feedService;
+    private final SpotBatchLoader batchLoader;
+    private final SpotDetailCacheService detailCache;
+    private final UserReactionService reactionService;
+    private final AuthorProfileCache authorCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 지도용: SPOT, CHALLENGE 만
     private static final Iterable<Spot.SpotType> MAP_VISIBLE =
@@ -59,72 +76,143 @@ public class SpotServiceImpl implements SpotService {
     private static final Iterable<Spot.SpotType> ALL_TYPES =
             Arrays.asList(Spot.SpotType.values());
 
+    // 근처 스팟 반경 상한 (제주 전역을 덮는 정도)
+    private static final int MAX_NEARBY_RADIUS_KM = 100;
+
     // 1
     @Override
     public List<NearSpotResponse> getNearbySpots(BigDecimal lat, BigDecimal lng, int radiusKm) {
-        return spotRepository.findWithinRadius(lat, lng, radiusKm).stream()
-                .filter(s -> s.getType() == Spot.SpotType.SPOT || s.getType() == Spot.SpotType.CHALLENGE)
-                .map(s -> NearSpotResponse.fromEntity(
-                        s,
-                        likeRepository.countByTargetIdAndTargetType(s.getId(), Like.TargetType.SPOT),
-                        false
-                ))
+        if (!SpotGridIndex.isValidCoordinate(lat.doubleValue(), lng.doubleValue())) {
+            throw new IllegalArgumentException("위도는 -90~90, 경도는 -180~180 범위여야 합니다.");
+        }
+        radiusKm = Math.max(0, Math.min(radiusKm, MAX_NEARBY_RADIUS_KM));
+        if (!geoIndexService.isReady()) {
+            List<Spot> spots = spotRepository.findWithinRadius(lat, lng, radiusKm).stream()
+                    .filter(s -> s.getType() == Spot.SpotType.SPOT || s.getType() == Spot.SpotType.CHALLENGE)
+                    .collect(Collectors.toList());
+            SpotBatchLoader.SpotBatch batch = batchLoader.load(spots);
+            return spots.stream().map(batch::toNearResponse).collect(Collectors.toList());
+        }
+
+        // 위치 인덱스에서 반경 내 id 를 거리순으로 받고, 해당 스팟만 조회
+        List<SpotGridIndex.Hit> hits = geoIndexService.findWithinRadius(lat.doubleValue(), lng.doubleValue(), radiusKm);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = hits.stream().map(SpotGridIndex.Hit::spotId).collect(Collectors.toList());
+        Map<Long, Spot> byId = spotRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Spot::getId, s -> s));
+
+        List<Spot> spots = ids.stream()
+                .map(byId::get)
+                .filter(s -> s != null && !Boolean.TRUE.equals(s.getIsDeleted()))
                 .collect(Collectors.toList());
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(spots);
+        return spots.stream().map(batch::toNearResponse).collect(Collectors.toList());
     }
 
     @Override
     public Page<SpotResponse> getLatestSpots(Pageable pageable) {
-        return spotRepository
-                .findByTypeInOrderByCreatedAtDesc(ALL_TYPES, pageable)
-                .map(spot ->
-                        SpotResponse.fromEntity(
-                                spot,
-                                (int) likeRepository.countBySpotId(spot.getId()), // 좋아요 개수
-                                false // 현재 사용자가 눌렀는지 여부 (로그인 기반으로 수정 가능)
-                        )
-                );
+        return toListResponse(feedService.read(SpotFeedService.Feed.LATEST, pageable)
+                .orElseGet(() -> spotRepository.findByTypeInOrderByCreatedAtDesc(ALL_TYPES, pageable)));
     }
 
     @Override
     public Page<SpotResponse> getMostViewedSpots(Pageable pageable) {
-        return spotRepository
-                .findByTypeInOrderByViewCountDesc(ALL_TYPES, pageable)
-                .map(spot ->
-                        SpotResponse.fromEntity(
-                                spot,
-                                (int) likeRepository.countBySpotId(spot.getId()),
-                                false
-                        )
-                );
+        return toListResponse(feedService.read(SpotFeedService.Feed.MOST_VIEWED, pageable)
+                .orElseGet(() -> spotRepository.findByTypeInOrderByViewCountDesc(ALL_TYPES, pageable)));
     }
 
     @Override
     public Page<SpotResponse> getMostLikedSpots(Pageable pageable) {
-        return spotRepository
-                .findByTypeInOrderByLikeCountDesc(ALL_TYPES, pageable)
-                .map(spot ->
-                        SpotResponse.fromEntity(
-                                spot,
-                                (int) likeRepository.countBySpotId(spot.getId()),
-                                false
-                        )
-                );
+        return toListResponse(feedService.read(SpotFeedService.Feed.MOST_LIKED, pageable)
+                .orElseGet(() -> spotRepository.findByTypeInOrderByLikeCountDesc(ALL_TYPES, pageable)));
+    }
+
+    @Override
+    public Page<SpotResponse> getTrendingSpots(Pageable pageable) {
+        // 트렌딩 피드가 없으면 최신순으로 대체
+        return toListResponse(feedService.read(SpotFeedService.Feed.TRENDING, pageable)
+                .orElseGet(() -> spotRepository.findByTypeInOrderByCreatedAtDesc(ALL_TYPES, pageable)));
     }
 
+    // 페이지 단위로 좋아요/댓글/북마크 정보를 일괄 조회해서 변환
+    private Page<SpotResponse> toListResponse(Page<Spot> spots) {
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(spots.getContent());
+        return spots.map(batch::toResponse);
+    }
+
+    // ----- 커서(keyset) 피드 -----
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final LocalDateTime CURSOR_MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Override
+    public CursorPageResponse<SpotResponse> getLatestSpots(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = clampCursorSize(size);
+        List<Spot> rows = spotRepository.findByTypeInOrderByCreatedAtDescWithUserAfter(
+                ALL_TYPES,
+                after == null ? CURSOR_MAX_TIME : after.createdAt(),
+                after == null ? Long.MAX_VALUE : after.id(),
+                PageRequest.of(0, limit + 1));
+        return toCursorPage(rows, limit, s -> FeedCursor.of(s.getCreatedAt(), s.getId()));
+    }
+
+    @Override
+    public CursorPageResponse<SpotResponse> getMostViewedSpots(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = clampCursorSize(size);
+        List<Spot> rows = spotRepository.findByTypeInOrderByViewCountDescWithUserAfter(
+                ALL_TYPES,
+                after == null ? Integer.MAX_VALUE : after.count(),
+                after == null ? Long.MAX_VALUE : after.id(),
+                PageRequest.of(0, limit + 1));
+        return toCursorPage(rows, limit, s -> FeedCursor.of(s.getViewCount(), s.getId()));
+    }
+
+    @Override
+    public CursorPageResponse<SpotResponse> getMostLikedSpots(String cursor, int size) {
+        FeedCursor after = FeedCursor.decode(cursor);
+        int limit = clampCursorSize(size);
+        List<Spot> rows = spotRepository.findByTypeInOrderByLikeCountDescWithUserAfter(
+                ALL_TYPES,
+                after == null ? Integer.MAX_VALUE : after.count(),
+                after == null ? Long.MAX_VALUE : after.id(),
+                PageRequest.of(0, limit + 1));
+        return toCursorPage(rows, limit, s -> FeedCursor.of(s.getLikeCount(), s.getId()));
+    }
+
+    private int clampCursorSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    // limit + 1 개를 조회해서 다음 페이지 존재 여부를 판단 (COUNT 쿼리 대신)
+    private CursorPageResponse<SpotResponse> toCursorPage(List<Spot> rows, int limit,
+                                                          Function<Spot, FeedCursor> cursorOf) {
+        boolean hasNext = rows.size() > limit;
+        List<Spot> page = hasNext ? rows.subList(0, limit) : rows;
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(page);
+        List<SpotResponse> content = page.stream()
+                .map(batch::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
 
     @Transactional
     @Override
     public Long createSpot(SpotCreateRequestDTO req, List<MultipartFile> images) {
-        Long id = createCore(req); // 텍스트/위치 저장 (기존 로직)
+        Spot spot = createCore(req); // 텍스트/위치 저장 (기존 로직)
+        Long id = spot.getId();
         if (images != null && images.size() > 3)
             throw new IllegalArgumentException("이미지는 최대 3장까지 업로드 가능합니다.");
 
         if (images != null && !images.isEmpty()) {
-            Spot spot = spotRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Spot not found"));
             List<String> urls = uploadAll(id, images);
             spot.setImagesOrdered(urls); // img1~img3 세팅
             spotRepository.save(spot);
         }
+        eventPublisher.publishEvent(SpotChangedEvent.created(spot));
         return id;
     }
 
@@ -161,6 +249,7 @@ public class SpotServiceImpl implements SpotService {
 
         s.setImagesOrdered(finalList);
         spotRepository.save(s);
+        eventPublisher.publishEvent(SpotChangedEvent.updated(s));
     }
 
     private void applyTheme(Spot s, Long themeId) {
@@ -179,13 +268,9 @@ public class SpotServiceImpl implements SpotService {
         dedupeTags(s);
     }
 
+    // 태그 인덱스와 같은 규칙으로 정규화 (저장 값과 인덱스 키가 어긋나지 않도록)
     private String normalizeTag(String raw) {
-        if (raw == null) return null;
-        String t = raw.trim();
-        if (t.startsWith("#")) t = t.substring(1).trim();
-        if (t.isEmpty()) return null;
-        if (t.length() > 50) t = t.substring(0, 50);
-        return t;
+        return SpotTagIndex.normalize(raw);
     }
 
     private void dedupeTags(Spot s) {
@@ -205,28 +290,24 @@ public class SpotServiceImpl implements SpotService {
     @Override
     @Transactional
     public SpotDetailResponse getSpotDetail(Long id) {
-        User user = securityUtil.getAuthenticatedUser();
-
-        // 테마/태그까지 한 번에 패치
-        Spot s = spotRepository.findDetailWithUserAndTagsById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Spot not found"));
+        Long userId = securityUtil.getAuthenticatedUserIdOrNull();
+        if (userId == null) throw new IllegalArgumentException("User is not authenticated");
 
-        // 1) ViewLog 기록
-        SpotViewLog log = new SpotViewLog();
-        log.setSpot(s);
-        log.setUserId(user.getId());
-        log.setViewedAt(LocalDateTime.now());
-        viewLogRepository.save(log);
+        // 공유 부분(스팟/테마/태그/댓글 수)은 상세 캐시에서, 작성자 프로필은 변경 시 무효화되는 프로필 캐시에서
+        SpotDetailSnapshot snapshot = detailCache.get(id);
+        AuthorProfile author = authorCache.get(snapshot.userId());
 
-        // 2) viewCount++
-        s.setViewCount(s.getViewCount() + 1);
-        spotRepository.save(s);
+        // 1) ViewLog 기록 (비동기 일괄 저장, 중복 제거 윈도우 안의 재조회는 제외)
+        // 2) viewCount++ (새 조회일 때만, 커밋 후 카운터에 누적)
+        if (viewLogPipeline.record(id, userId)) {
+            eventPublisher.publishEvent(SpotEngagementEvent.viewed(id));
+        }
 
-        // 3) 응답 생성
-        int likeCount = s.getLikeCount();
-        boolean liked = likeRepository.existsByUserAndSpot(user, s);
-        boolean bookmarked = bookmarkRepository.existsByUserIdAndSpotId(user.getId(), id);
-        return new SpotDetailResponse(s, likeCount, liked, bookmarked);
+        // 3) 응답 생성: 좋아요 수는 카운터 서비스(DB 값 + 미반영 증감분), 사용자별 여부는 반응 집합에서
+        int likeCount = counterService.likeCount(id);
+        boolean liked = reactionService.contains(userId, UserReactionEvent.Kind.SPOT_LIKE, id);
+        boolean bookmarked = reactionService.contains(userId, UserReactionEvent.Kind.SPOT_BOOKMARK, id);
+        return new SpotDetailResponse(snapshot, author, likeCount, liked, bookmarked);
     }
 
 
@@ -249,6 +330,7 @@ public class SpotServiceImpl implements SpotService {
         s.setDeletedAt(LocalDateTime.now());
         s.setDeletedBy(user.getId());
         spotRepository.save(s);
+        eventPublisher.publishEvent(SpotChangedEvent.deleted(s));
     }
 
     @Override
@@ -261,9 +343,9 @@ public class SpotServiceImpl implements SpotService {
         // 1) 중계 테이블에 기록
         if ( ! likeRepository.existsByUserAndSpot(current, spot) ) {
             likeRepository.save(new Like(current, spot, Like.TargetType.SPOT));
-            // 2) Spot.likeCount ++
-            spot.setLikeCount(spot.getLikeCount() + 1);
-            spotRepository.save(spot);
+            // 2) Spot.likeCount ++ (커밋 후 카운터에 누적, 주기적으로 일괄 반영)
+            eventPublisher.publishEvent(SpotEngagementEvent.liked(spotId));
+            eventPublisher.publishEvent(UserReactionEvent.added(current.getId(), UserReactionEvent.Kind.SPOT_LIKE, spotId));
         }
     }
 
@@ -278,9 +360,9 @@ public class SpotServiceImpl implements SpotService {
         likeRepository.findByUserAndSpot(current, spot)
                 .ifPresent(like -> {
                     likeRepository.delete(like);
-                    // 2) Spot.likeCount --
-                    spot.setLikeCount(spot.getLikeCount() - 1);
-                    spotRepository.save(spot);
+                    // 2) Spot.likeCount -- (커밋 후 카운터에 누적, 주기적으로 일괄 반영)
+                    eventPublisher.publishEvent(SpotEngagementEvent.unliked(spotId));
+                    eventPublisher.publishEvent(UserReactionEvent.removed(current.getId(), UserReactionEvent.Kind.SPOT_LIKE, spotId));
                 });
     }
 
@@ -293,6 +375,7 @@ public class SpotServiceImpl implements SpotService {
             Spot s = spotRepository.findById(id)
                     .orElseThrow(() -> new EntityNotFoundException("Spot not found"));
             bookmarkRepository.save(new Bookmark(user, s));
+            eventPublisher.publishEvent(UserReactionEvent.added(user.getId(), UserReactionEvent.Kind.SPOT_BOOKMARK, id));
         }
     }
 
@@ -301,6 +384,7 @@ public class SpotServiceImpl implements SpotService {
     public void unbookmarkSpot(Long id) {
         User user = securityUtil.getAuthenticatedUser();
         bookmarkRepository.deleteByUserIdAndSpotId(user.getId(), id);
+        eventPublisher.publishEvent(UserReactionEvent.removed(user.getId(), UserReactionEvent.Kind.SPOT_BOOKMARK, id));
     }
 
     @Override
@@ -335,14 +419,14 @@ public class SpotServiceImpl implements SpotService {
     }
 
     // ----- 내부 유틸 -----
-    private Long createCore(SpotCreateRequestDTO req) {
+    private Spot createCore(SpotCreateRequestDTO req) {
         User user = securityUtil.getAuthenticatedUser();
         Spot s = new Spot(req.getName(), req.getDescription(), req.getLatitude(), req.getLongitude(), user);
         s.setUserCreated(true);
         s.setIsDeleted(false);
         applyTheme(s, req.getThemeId());
         applyTags(s, req.getTag1(), req.getTag2(), req.getTag3());
-        return spotRepository.save(s).getId();
+        return spotRepository.save(s);
     }
 
     private void applyBasics(Spot s, SpotUpdateRequest req) {
@@ -389,9 +473,7 @@ public class SpotServiceImpl implements SpotService {
                 spots = spotRepository.findByUserIdOrderByViewCountDesc(user.getId(), pageable);
                 break;
             case "comments":
-                // 댓글 많은 순은 메모리에서 정렬 (표시만)
-                spots = spotRepository.findByUserIdOrderByCreatedAtDescForCommentSort(user.getId(), pageable);
-                // TODO: 댓글 많은 순 정렬 구현 (현재는 최신순으로 반환)
+                spots = spotRepository.findByUserIdOrderByReplyCountDesc(user.getId(), pageable);
                 break;
             case "latest":
             default:
@@ -399,20 +481,9 @@ public class SpotServiceImpl implements SpotService {
                 break;
         }
         
-        // 현재 사용자가 좋아요한 스팟 ID 목록 조회 (배치 처리)
-        List<Long> spotIds = spots.getContent().stream().map(Spot::getId).collect(Collectors.toList());
-        Set<Long> likedSpotIds = new HashSet<>();
-        if (!spotIds.isEmpty()) {
-            likedSpotIds = new HashSet<>(likeRepository.findLikedTargetIds(
-                    user.getId(), spotIds, Like.TargetType.SPOT));
-        }
-        
-        final Set<Long> finalLikedSpotIds = likedSpotIds;
-        return spots.map(spot -> SpotResponse.fromEntity(
-                spot,
-                (int) likeRepository.countBySpotId(spot.getId()),
-                finalLikedSpotIds.contains(spot.getId())
-        ));
+        // 좋아요/댓글/북마크 정보 배치 조회
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(spots.getContent(), user.getId());
+        return spots.map(batch::toResponse);
     }
 
     @Override
@@ -431,11 +502,8 @@ public class SpotServiceImpl implements SpotService {
         Page<Spot> likedSpots = likeRepository.findLikedSpotsByUserId(user.getId(), Like.TargetType.SPOT, pageable);
         
         // 모든 스팟에 좋아요를 눌렀으므로 likedByMe는 항상 true
-        return likedSpots.map(spot -> SpotResponse.fromEntity(
-                spot,
-                (int) likeRepository.countBySpotId(spot.getId()),
-                true
-        ));
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(likedSpots.getContent(), user.getId());
+        return likedSpots.map(batch::toResponse);
     }
 
     // Reply 엔티티를 ReplyDTO로 변환
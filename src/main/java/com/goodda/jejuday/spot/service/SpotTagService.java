@@ -0,0 +1,119 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.dto.CursorPageResponse;
+import com.goodda.jejuday.spot.dto.SpotResponse;
+import com.goodda.jejuday.spot.dto.TagCountResponse;
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import com.goodda.jejuday.spot.search.SpotTagIndex;
+import com.goodda.jejuday.spot.util.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 색인 (태그별 스팟 목록/스팟 수/연관 태그).
+ * 시작 시 DB 에서 한 번 적재하고, 이후에는 SpotChangedEvent 로 증분 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotTagService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_TAG_LIST_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpotRepository spotRepository;
+    private final SpotBatchLoader batchLoader;
+    private final SpotTagIndex index = new SpotTagIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        index.clear();
+        int[] loaded = {0};
+        jdbcTemplate.query(
+                "SELECT id, tag1, tag2, tag3 FROM spot WHERE is_deleted = false"
+                        + " AND (tag1 IS NOT NULL OR tag2 IS NOT NULL OR tag3 IS NOT NULL)",
+                (RowCallbackHandler) rs -> {
+                    index.upsert(rs.getLong("id"), tagsOf(rs.getString("tag1"), rs.getString("tag2"), rs.getString("tag3")));
+                    loaded[0]++;
+                });
+        log.info("태그 색인 초기화 완료: 스팟 {}건", loaded[0]);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        Spot s = event.spot();
+        if (s.getId() == null) return;
+        if (Boolean.TRUE.equals(s.getIsDeleted())) {
+            index.remove(s.getId());
+        } else {
+            index.upsert(s.getId(), tagsOf(s.getTag1(), s.getTag2(), s.getTag3()));
+        }
+    }
+
+    /** 태그가 달린 스팟 (최신순, 커서 기반) */
+    public CursorPageResponse<SpotResponse> getSpotsByTag(String tag, String cursor, int size) {
+        String key = SpotTagIndex.key(tag);
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("태그를 입력해 주세요.");
+        }
+        FeedCursor after = FeedCursor.decode(cursor);
+        if (after != null && !after.sortKey().equals(key)) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        long[] ids = index.spotIds(key, after == null ? Long.MAX_VALUE : after.id(), limit + 1);
+        boolean hasNext = ids.length > limit;
+        List<Long> pageIds = Arrays.stream(ids).limit(limit).boxed().collect(Collectors.toList());
+
+        Map<Long, Spot> byId = pageIds.isEmpty() ? Map.of() : spotRepository.findAllWithUserByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(Spot::getId, Function.identity()));
+        List<Spot> page = pageIds.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+        SpotBatchLoader.SpotBatch batch = batchLoader.load(page);
+        List<SpotResponse> content = page.stream().map(batch::toResponse).collect(Collectors.toList());
+
+        String nextCursor = hasNext ? new FeedCursor(key, pageIds.get(pageIds.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+
+    /** 태그 자동완성 (prefix 일치, 스팟 수 순). prefix 가 비어 있으면 인기 태그 */
+    public List<TagCountResponse> suggest(String prefix, int size) {
+        return toResponse(index.suggest(prefix, Math.min(size, MAX_TAG_LIST_SIZE)));
+    }
+
+    /** 연관 태그 (같은 스팟에 함께 달린 횟수 순) */
+    public List<TagCountResponse> related(String tag, int size) {
+        return toResponse(index.related(tag, Math.min(size, MAX_TAG_LIST_SIZE)));
+    }
+
+    private static List<String> tagsOf(String... tags) {
+        List<String> out = new ArrayList<>(tags.length);
+        for (String t : tags) {
+            if (t != null && !t.isBlank()) out.add(t);
+        }
+        return out;
+    }
+
+    private static List<TagCountResponse> toResponse(List<SpotTagIndex.TagCount> counts) {
+        return counts.stream()
+                .map(c -> TagCountResponse.builder().tag(c.tag()).count(c.count()).build())
+                .collect(Collectors.toList());
+    }
+}
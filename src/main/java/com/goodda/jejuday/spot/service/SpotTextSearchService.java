@@ -0,0 +1,72 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.search.SpotTextIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커뮤니티 검색용 전문 색인 (이름/태그/설명, 전 타입).
+ * 시작 시 DB 에서 한 번 적재하고, 이후에는 SpotChangedEvent 로 증분 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotTextSearchService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SpotTextIndex index = new SpotTextIndex();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIndex() {
+        index.clear();
+        // 엔티티/작성자 로딩 없이 색인에 필요한 컬럼만 읽음
+        jdbcTemplate.query(
+                "SELECT id, name, description, tag1, tag2, tag3 FROM spot WHERE is_deleted = false",
+                (RowCallbackHandler) rs -> index.upsert(
+                        rs.getLong("id"),
+                        rs.getString("name"),
+                        joinTags(rs.getString("tag1"), rs.getString("tag2"), rs.getString("tag3")),
+                        rs.getString("description")));
+        ready = true;
+        log.info("커뮤니티 검색 색인 초기화 완료: {}건", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpotChanged(SpotChangedEvent event) {
+        Spot s = event.spot();
+        if (s.getId() == null) return;
+        if (Boolean.TRUE.equals(s.getIsDeleted())) {
+            index.remove(s.getId());
+        } else {
+            index.upsert(s.getId(), s.getName(), joinTags(s.getTag1(), s.getTag2(), s.getTag3()), s.getDescription());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 관련도순 offset 부터 limit 개 + 전체 매칭 수 */
+    public SpotTextIndex.Result search(String query, int offset, int limit) {
+        return index.search(query, offset, limit);
+    }
+
+    private static String joinTags(String... tags) {
+        StringBuilder sb = new StringBuilder();
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) continue;
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(tag);
+        }
+        return sb.toString();
+    }
+}
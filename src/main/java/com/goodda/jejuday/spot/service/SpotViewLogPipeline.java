@@ -0,0 +1,137 @@
+package com.goodda.jejuday.spot.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스팟 조회 로그 비동기 파이프라인.
+ * 1) 사용자/스팟 단위 중복 제거 윈도우 안의 재조회(새로고침)는 조회로 집계하지 않는다.
+ * 2) 새 조회는 bounded 큐에 넣고, 백그라운드 writer 가 multi-row INSERT 로 일괄 저장한다.
+ * 큐가 가득 차면 로그만 버리고(drop) 카운트한다.
+ */
+@Slf4j
+@Service
+public class SpotViewLogPipeline {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO spot_view_log (spot_id, user_id, viewed_at) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ViewEvent> queue;
+    private final long dedupWindowMillis;
+
+    // (userId, spotId) → 마지막으로 집계된 조회 시각(ms)
+    private final Map<ViewKey, Long> lastCounted = new ConcurrentHashMap<>();
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SpotViewLogPipeline(JdbcTemplate jdbcTemplate,
+                               @Value("${spot.view-log.queue-capacity:10000}") int queueCapacity,
+                               @Value("${spot.view-log.dedup-window:30m}") Duration dedupWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dedupWindowMillis = dedupWindow.toMillis();
+    }
+
+    private record ViewKey(Long userId, Long spotId) {}
+
+    private record ViewEvent(Long spotId, Long userId, LocalDateTime viewedAt) {}
+
+    public record Stats(int queueDepth, int remainingCapacity, long accepted, long deduplicated,
+                        long dropped, long written, long failed, int dedupEntries) {}
+
+    /**
+     * 조회 1건 기록.
+     * @return 새 조회로 집계해야 하면 true, 중복 제거 윈도우 안의 재조회면 false
+     */
+    public boolean record(Long spotId, Long userId) {
+        long now = System.currentTimeMillis();
+        if (userId != null) {
+            boolean[] fresh = {false};
+            lastCounted.compute(new ViewKey(userId, spotId), (k, prev) -> {
+                if (prev == null || now - prev >= dedupWindowMillis) {
+                    fresh[0] = true;
+                    return now;
+                }
+                return prev;
+            });
+            if (!fresh[0]) {
+                deduplicated.increment();
+                return false;
+            }
+        }
+
+        if (queue.offer(new ViewEvent(spotId, userId, LocalDateTime.now()))) {
+            accepted.increment();
+        } else {
+            dropped.increment();
+            log.warn("조회 로그 큐 포화로 로그 유실: spotId={}, 누적 유실={}", spotId, dropped.sum());
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${spot.view-log.flush-interval:1000}")
+    public void flush() {
+        List<ViewEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            insertBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /** 윈도우가 지난 중복 제거 엔트리 정리 */
+    @Scheduled(fixedDelayString = "${spot.view-log.dedup-purge-interval:60000}")
+    public void purgeExpiredDedupEntries() {
+        long cutoff = System.currentTimeMillis() - dedupWindowMillis;
+        lastCounted.values().removeIf(t -> t < cutoff);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public Stats stats() {
+        return new Stats(queue.size(), queue.remainingCapacity(), accepted.sum(), deduplicated.sum(),
+                dropped.sum(), written.sum(), failed.sum(), lastCounted.size());
+    }
+
+    private void insertBatch(List<ViewEvent> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 10).append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 3];
+        for (int i = 0; i < batch.size(); i++) {
+            ViewEvent e = batch.get(i);
+            if (i > 0) sql.append(',');
+            sql.append("(?,?,?)");
+            args[i * 3] = e.spotId();
+            args[i * 3 + 1] = e.userId();
+            args[i * 3 + 2] = Timestamp.valueOf(e.viewedAt());
+        }
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+            written.add(batch.size());
+        } catch (Exception ex) {
+            failed.add(batch.size());
+            log.warn("조회 로그 일괄 저장 실패: {}건, {}", batch.size(), ex.getMessage());
+        }
+    }
+}
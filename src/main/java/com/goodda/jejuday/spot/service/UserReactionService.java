@@ -0,0 +1,186 @@
+package com.goodda.jejuday.spot.service;
+
+import com.goodda.jejuday.spot.entity.Like;
+import com.goodda.jejuday.spot.event.UserReactionEvent;
+import com.goodda.jejuday.spot.event.UserReactionEvent.Kind;
+import com.goodda.jejuday.spot.repository.BookmarkRepository;
+import com.goodda.jejuday.spot.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 사용자별 반응 집합 (좋아요한 스팟 / 좋아요한 댓글 / 북마크한 스팟).
+ * Redis SET(user:reactions:{kind}:{userId})에 대상 id 를 두고, 한 페이지의 여부를 SMISMEMBER 한 번으로 판정한다.
+ * 정수 id 만 들어가므로 Redis 가 intset(정렬된 정수 배열)으로 압축 저장한다.
+ * 집합이 없으면 DB 에서 한 번 적재하며, 적재 여부는 센티널 멤버(0)로 구분한다.
+ * 반응 이벤트마다 버전 키(user:reactions:ver:{kind}:{userId})를 올리고, 적재 결과는 적재 도중 버전이 바뀌지 않았을 때만 쓴다.
+ */
+@Slf4j
+@Service
+public class UserReactionService {
+
+    private static final String KEY_PREFIX = "user:reactions:";
+    private static final String VERSION_PREFIX = "user:reactions:ver:";
+    private static final String LOADED = "0"; // 적재 완료 표시 (실제 id 는 1부터)
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final Duration ttl;
+
+    public UserReactionService(RedisTemplate<String, String> redisTemplate,
+                               LikeRepository likeRepository,
+                               BookmarkRepository bookmarkRepository,
+                               @Value("${spot.user-reactions.ttl:7d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.likeRepository = likeRepository;
+        this.bookmarkRepository = bookmarkRepository;
+        this.ttl = ttl;
+    }
+
+    /** 단건 여부 */
+    public boolean contains(Long userId, Kind kind, Long targetId) {
+        return !filter(userId, kind, List.of(targetId)).isEmpty();
+    }
+
+    /** targetIds 중 사용자가 반응한 id (비로그인이면 빈 집합) */
+    public Set<Long> filter(Long userId, Kind kind, Collection<Long> targetIds) {
+        if (userId == null || targetIds.isEmpty()) return Set.of();
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(targetIds));
+        String key = key(kind, userId);
+
+        Map<Object, Boolean> flags;
+        try {
+            Object[] members = new Object[ids.size() + 1];
+            members[0] = LOADED;
+            for (int i = 0; i < ids.size(); i++) {
+                members[i + 1] = String.valueOf(ids.get(i));
+            }
+            flags = redisTemplate.opsForSet().isMember(key, members);
+        } catch (DataAccessException e) {
+            log.warn("반응 집합 Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            return queryDb(userId, kind, ids);
+        }
+
+        Set<Long> result = new HashSet<>();
+        if (flags != null && Boolean.TRUE.equals(flags.get(LOADED))) {
+            for (Long id : ids) {
+                if (Boolean.TRUE.equals(flags.get(String.valueOf(id)))) result.add(id);
+            }
+            return result;
+        }
+
+        // 미적재: 버전을 먼저 읽고 전체를 DB 에서 읽어 집합을 채운 뒤 그 결과로 판정
+        String versionKey = versionKey(kind, userId);
+        String version;
+        try {
+            version = redisTemplate.opsForValue().get(versionKey);
+        } catch (DataAccessException e) {
+            log.warn("반응 집합 버전 조회 실패, DB 로 대체: {}", e.getMessage());
+            return queryDb(userId, kind, ids);
+        }
+        Set<Long> all = new HashSet<>(loadAll(userId, kind));
+        store(key, versionKey, version, all);
+        for (Long id : ids) {
+            if (all.contains(id)) result.add(id);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReaction(UserReactionEvent event) {
+        String key = key(event.kind(), event.userId());
+        String versionKey = versionKey(event.kind(), event.userId());
+        String member = String.valueOf(event.targetId());
+        try {
+            // 미적재 집합에도 그대로 반영 (센티널이 없으니 다음 조회 때 DB 적재와 합쳐짐).
+            // 버전을 집합보다 먼저 올려야 진행 중인 적재가 이 변경을 덮기 전에 버전 변경으로 중단된다
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForValue().increment(versionKey);
+                    operations.expire(versionKey, ttl);
+                    if (event.added()) operations.opsForSet().add(key, member);
+                    else operations.opsForSet().remove(key, member);
+                    operations.expire(key, ttl);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("반응 집합 갱신 실패: userId={}, kind={}, targetId={}, {}",
+                    event.userId(), event.kind(), event.targetId(), e.getMessage());
+        }
+    }
+
+    private void store(String key, String versionKey, String loadedVersion, Set<Long> ids) {
+        String[] members = new String[ids.size() + 1];
+        members[0] = LOADED;
+        int i = 1;
+        for (Long id : ids) {
+            members[i++] = String.valueOf(id);
+        }
+        try {
+            // 적재 도중 반응 이벤트가 있었으면(버전 변경) 쓰지 않음: DB 를 읽은 뒤 커밋된 취소를 되살리지 않도록.
+            // 이 경우 센티널이 없으니 다음 조회에서 다시 적재한다
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public List<Object> execute(RedisOperations operations) {
+                    operations.watch(versionKey);
+                    if (!Objects.equals(operations.opsForValue().get(versionKey), loadedVersion)) {
+                        operations.unwatch();
+                        return List.of();
+                    }
+                    operations.multi();
+                    // DEL 없이 합침: 적재 전에 이벤트로 먼저 들어온 멤버는 DB 결과에도 있음
+                    operations.opsForSet().add(key, (Object[]) members);
+                    operations.expire(key, ttl);
+                    return operations.exec();
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("반응 집합 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private List<Long> loadAll(Long userId, Kind kind) {
+        return switch (kind) {
+            case SPOT_LIKE -> likeRepository.findTargetIdsByUserId(userId, Like.TargetType.SPOT);
+            case REPLY_LIKE -> likeRepository.findTargetIdsByUserId(userId, Like.TargetType.REPLY);
+            case SPOT_BOOKMARK -> bookmarkRepository.findSpotIdsByUserId(userId);
+        };
+    }
+
+    private Set<Long> queryDb(Long userId, Kind kind, List<Long> ids) {
+        return new HashSet<>(switch (kind) {
+            case SPOT_LIKE -> likeRepository.findLikedTargetIds(userId, ids, Like.TargetType.SPOT);
+            case REPLY_LIKE -> likeRepository.findLikedTargetIds(userId, ids, Like.TargetType.REPLY);
+            case SPOT_BOOKMARK -> bookmarkRepository.findBookmarkedSpotIds(userId, ids);
+        });
+    }
+
+    private static String key(Kind kind, Long userId) {
+        return KEY_PREFIX + kind.name().toLowerCase() + ":" + userId;
+    }
+
+    private static String versionKey(Kind kind, Long userId) {
+        return VERSION_PREFIX + kind.name().toLowerCase() + ":" + userId;
+    }
+}
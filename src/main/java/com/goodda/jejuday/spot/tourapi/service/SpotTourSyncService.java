@@ -4,12 +4,14 @@ import com.goodda.jejuday.auth.entity.User;
 import com.goodda.jejuday.auth.repository.UserRepository;
 import com.goodda.jejuday.auth.service.SystemUserProvider;
 import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
 import com.goodda.jejuday.spot.tourapi.SpotTourRepository;
 import com.goodda.jejuday.spot.tourapi.TourApiClient;
 import com.goodda.jejuday.spot.tourapi.TourApiProperties;
 import com.goodda.jejuday.spot.tourapi.dto.TourApiPage;
 import com.goodda.jejuday.spot.tourapi.dto.TourItem;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.BeanWrapper;
@@ -31,6 +33,7 @@ public class SpotTourSyncService {
     private static final DateTimeFormatter DT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
     private static final String PROVIDER_PREFIX = "KTO:"; // externalPlaceId = "KTO:<contentid>"
     private final SystemUserProvider systemUserProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final long SYSTEM_USER_ID = 10L;
 
@@ -88,10 +91,12 @@ public class SpotTourSyncService {
             s = new Spot();
             mapSpot(s, it, externalId);   // 여기서 setSystemUser(s) 호출
             repo.save(s);
+            eventPublisher.publishEvent(SpotChangedEvent.created(s));
             return Upsert.insert();
         } else {
             mapSpot(s, it, externalId);
             if (getUserId(s) == null) setSystemUser(s); // 보정
+            eventPublisher.publishEvent(SpotChangedEvent.updated(s));
             return Upsert.update();
         }
     }
@@ -0,0 +1,57 @@
+package com.goodda.jejuday.spot.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 커서: 마지막으로 내려준 항목의 (정렬 키, id).
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record FeedCursor(String sortKey, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static FeedCursor of(LocalDateTime createdAt, long id) {
+        return new FeedCursor(createdAt.toString(), id);
+    }
+
+    public static FeedCursor of(long count, long id) {
+        return new FeedCursor(Long.toString(count), id);
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 첫 페이지(null) */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep <= 0) throw new IllegalArgumentException("잘못된 커서입니다.");
+            return new FeedCursor(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public int count() {
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
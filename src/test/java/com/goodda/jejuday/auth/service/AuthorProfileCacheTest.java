@@ -0,0 +1,86 @@
+package com.goodda.jejuday.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.goodda.jejuday.auth.event.UserProfileChangedEvent;
+import com.goodda.jejuday.auth.repository.UserRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class AuthorProfileCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    private UserRepository userRepository;
+    private AuthorProfileCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        userRepository = mock(UserRepository.class);
+        cache = new AuthorProfileCache(userRepository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenNotInvalidated() {
+        // given
+        when(userRepository.findProfilesByIdIn(anyCollection())).thenReturn(List.<Object[]>of(row("한라봉")));
+
+        // when
+        cache.get(USER_ID);
+        AuthorProfileCache.AuthorProfile profile = cache.get(USER_ID);
+
+        // then
+        assertEquals("한라봉", profile.nickname());
+        verify(userRepository, times(1)).findProfilesByIdIn(anyCollection());
+    }
+
+    @Test
+    void get_shouldNotCacheStaleProfile_whenInvalidatedDuringLoad() {
+        // given: 이전 닉네임을 읽은 직후 닉네임 변경이 커밋되어 무효화가 들어옴
+        when(userRepository.findProfilesByIdIn(anyCollection()))
+                .thenAnswer(inv -> {
+                    cache.onProfileChanged(new UserProfileChangedEvent(USER_ID));
+                    return List.<Object[]>of(row("한라봉"));
+                })
+                .thenReturn(List.<Object[]>of(row("천혜향")));
+
+        // when
+        cache.get(USER_ID);
+        AuthorProfileCache.AuthorProfile profile = cache.get(USER_ID);
+
+        // then: 무효화 이전에 읽은 값은 캐시에 남지 않고 다시 조회됨
+        assertEquals("천혜향", profile.nickname());
+        verify(userRepository, times(2)).findProfilesByIdIn(anyCollection());
+    }
+
+    @Test
+    void get_shouldReload_whenProfileChanged() {
+        // given
+        when(userRepository.findProfilesByIdIn(anyCollection()))
+                .thenReturn(List.<Object[]>of(row("한라봉")))
+                .thenReturn(List.<Object[]>of(row("천혜향")));
+        cache.get(USER_ID);
+
+        // when
+        cache.onProfileChanged(new UserProfileChangedEvent(USER_ID));
+        AuthorProfileCache.AuthorProfile profile = cache.get(USER_ID);
+
+        // then
+        assertEquals("천혜향", profile.nickname());
+    }
+
+    private static Object[] row(String nickname) {
+        return new Object[]{USER_ID, nickname, "https://img/profile.png"};
+    }
+}
@@ -0,0 +1,195 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class CompactSpotTrieTest {
+
+    private static final String[] SYLLABLES = {
+            "성", "산", "일", "출", "봉", "한", "라", "우", "도", "카", "페", "해", "변", "오", "름", "제", "주", "a", "b"
+    };
+
+    @Test
+    void topK_shouldMatchSortedLegacyTrieResults_whenRandomNames() {
+        Data data = randomData(5_000, 7L);
+        CompactSpotTrie compact = data.buildCompact(CompactSpotTrie.DEFAULT_TOP_K);
+        SpotTrie legacy = data.buildLegacy();
+
+        Random random = new Random(11L);
+        for (int q = 0; q < 500; q++) {
+            String name = data.names[random.nextInt(data.names.length)];
+            String prefix = name.substring(0, 1 + random.nextInt(name.length()));
+
+            Set<Long> expected = legacy.searchByPrefix(prefix);
+            assertEquals(expected.size(), compact.count(prefix));
+
+            List<Long> ranked = data.rank(expected);
+            for (int k : new int[]{1, 10, CompactSpotTrie.DEFAULT_TOP_K, 50}) {
+                long[] expectedTop = ranked.stream().limit(k).mapToLong(Long::longValue).toArray();
+                assertArrayEquals(expectedTop, compact.topK(prefix, k), prefix + " / k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void topK_shouldReturnEmpty_whenPrefixEmptyOrMissing() {
+        CompactSpotTrie trie = CompactSpotTrie.builder()
+                .add(1L, "성산일출봉", 10)
+                .add(2L, "성판악", 5)
+                .add(3L, "Seongsan", 1)
+                .build();
+
+        assertEquals(0, trie.topK("", 10).length);
+        assertEquals(0, trie.topK("한라", 10).length);
+        assertArrayEquals(new long[]{1L, 2L}, trie.topK("성", 10));
+        assertArrayEquals(new long[]{3L}, trie.topK("SEONG", 10)); // 대소문자 무시
+        assertArrayEquals(new long[]{1L}, trie.candidates("성산", 10));
+    }
+
+    /**
+     * 메모리는 배열 크기로만 정해진다.
+     * 노드 수 = 서로 다른 prefix 수 + 루트, postings = 루트를 뺀 노드마다 min(K, 하위 스팟 수).
+     */
+    @Test
+    void nodeCount_shouldMatchPrefixLayout_whenNamesShareStems() {
+        Data data = randomData(20_000, 1L);
+        CompactSpotTrie trie = data.buildCompact(CompactSpotTrie.DEFAULT_TOP_K);
+
+        Map<String, Integer> prefixCounts = new HashMap<>();
+        for (String name : data.names) {
+            String n = CompactSpotTrie.normalize(name);
+            for (int i = 1; i <= n.length(); i++) prefixCounts.merge(n.substring(0, i), 1, Integer::sum);
+        }
+        int nodes = prefixCounts.size() + 1;
+        long postings = prefixCounts.values().stream()
+                .mapToLong(c -> Math.min(c, CompactSpotTrie.DEFAULT_TOP_K))
+                .sum();
+
+        assertEquals(nodes, trie.nodeCount());
+        assertEquals(data.names.length, trie.size());
+        // 노드별 char 1 + int 4 (경계용 +2), 스팟별 long + double, posting 별 int
+        long expected = (long) nodes * Character.BYTES
+                + (4L * nodes + 2 + postings) * Integer.BYTES
+                + (long) data.names.length * (Long.BYTES + Double.BYTES);
+        assertEquals(expected, trie.estimatedBytes());
+    }
+
+    /**
+     * 기존 HashMap/HashSet 트라이(SpotTrie)와의 메모리/지연 비교, 10만 건 (기본 test 에서 제외, ./gradlew benchmark 로 실행).
+     * 메모리는 GC 후 힙 사용량 차이로 잰 보존 크기, 지연은 인기순 상위 K 를 만드는 데 걸린 쿼리별 시간의 p50/p99.
+     * 기존 구조는 같은 결과를 만들려면 매칭 전체를 정렬해야 한다.
+     */
+    @Test
+    @Tag("benchmark")
+    void topK_shouldUseLessMemoryAndLatencyThanLegacyTrie_when100kNames() {
+        Data data = randomData(100_000, 1L);
+        long legacyBytes = retainedBytes(data::buildLegacy);
+        long compactBytes = retainedBytes(() -> data.buildCompact(CompactSpotTrie.DEFAULT_TOP_K));
+        SpotTrie legacy = data.buildLegacy();
+        CompactSpotTrie compact = data.buildCompact(CompactSpotTrie.DEFAULT_TOP_K);
+
+        Random random = new Random(3L);
+        String[] queries = new String[20_000];
+        for (int i = 0; i < queries.length; i++) {
+            String name = data.names[random.nextInt(data.names.length)];
+            queries[i] = name.substring(0, Math.min(name.length(), 1 + random.nextInt(3)));
+        }
+        long[] legacyNanos = new long[queries.length];
+        long[] compactNanos = new long[queries.length];
+        long sink = 0;
+        for (int round = 0; round < 2; round++) { // 첫 라운드는 워밍업, 두 번째 라운드만 기록
+            for (int i = 0; i < queries.length; i++) {
+                long t0 = System.nanoTime();
+                List<Long> ranked = data.rank(legacy.searchByPrefix(queries[i]));
+                long t1 = System.nanoTime();
+                long[] top = compact.topK(queries[i], CompactSpotTrie.DEFAULT_TOP_K);
+                long t2 = System.nanoTime();
+                sink += Math.min(ranked.size(), CompactSpotTrie.DEFAULT_TOP_K) + top.length;
+                legacyNanos[i] = t1 - t0;
+                compactNanos[i] = t2 - t1;
+            }
+        }
+
+        System.out.printf("[trie benchmark] spots=%d, nodes=%d, sink=%d%n", data.names.length, compact.nodeCount(), sink);
+        System.out.printf("  retained heap  legacy %,d bytes, compact %,d bytes (estimated %,d)%n",
+                legacyBytes, compactBytes, compact.estimatedBytes());
+        System.out.printf("  topK latency   legacy p50 %.1f us / p99 %.1f us, compact p50 %.1f us / p99 %.1f us%n",
+                percentile(legacyNanos, 50) / 1e3, percentile(legacyNanos, 99) / 1e3,
+                percentile(compactNanos, 50) / 1e3, percentile(compactNanos, 99) / 1e3);
+
+        assertTrue(compactBytes < legacyBytes, "compact trie should retain less heap");
+        assertTrue(percentile(compactNanos, 99) < percentile(legacyNanos, 99), "compact trie should have lower p99");
+    }
+
+    // ----- 테스트 데이터 -----
+    private record Data(String[] names, double[] popularity) {
+
+        CompactSpotTrie buildCompact(int topK) {
+            CompactSpotTrie.Builder builder = CompactSpotTrie.builder(topK);
+            for (int i = 0; i < names.length; i++) builder.add(i, names[i], popularity[i]);
+            return builder.build();
+        }
+
+        SpotTrie buildLegacy() {
+            SpotTrie trie = new SpotTrie();
+            for (int i = 0; i < names.length; i++) trie.insert(names[i], (long) i);
+            return trie;
+        }
+
+        List<Long> rank(Set<Long> ids) {
+            List<Long> list = new ArrayList<>(ids);
+            list.sort(Comparator.<Long>comparingDouble(id -> -popularity[(int) (long) id])
+                    .thenComparingLong(Long::longValue));
+            return list;
+        }
+    }
+
+    private static Data randomData(int n, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[n];
+        double[] popularity = new double[n];
+        for (int i = 0; i < n; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 2 + random.nextInt(8);
+            for (int j = 0; j < len; j++) sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            names[i] = sb.toString();
+            popularity[i] = random.nextInt(1000);
+        }
+        return new Data(names, popularity);
+    }
+
+    // ----- 측정 -----
+    private static long retainedBytes(Supplier<Object> build) {
+        long before = usedMemory();
+        Object held = build.get();
+        long after = usedMemory();
+        Reference.reachabilityFence(held);
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static long percentile(long[] values, int p) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)];
+    }
+}
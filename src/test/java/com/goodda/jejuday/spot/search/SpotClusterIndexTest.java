@@ -0,0 +1,121 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpotClusterIndexTest {
+
+    // 제주 전역을 덮는 화면
+    private static final double SW_LAT = 33.0, SW_LNG = 126.0, NE_LAT = 33.7, NE_LNG = 127.1;
+
+    @Test
+    void query_shouldCoverEveryVisibleSpot_whenWholeIslandQueriedAtEachZoom() {
+        // given: 무작위 스팟, 일부 삭제/이동/가중치 변경
+        Random random = new Random(3L);
+        SpotClusterIndex index = new SpotClusterIndex();
+        Map<Long, double[]> visible = new HashMap<>(); // id → {lat, lng, weight}
+        for (long id = 0; id < 3_000; id++) {
+            upsert(index, visible, id, randomJejuPoint(random), random.nextDouble() * 1_000);
+        }
+        for (long id = 0; id < 3_000; id += 6) {
+            index.remove(id);
+            visible.remove(id);
+        }
+        for (long id = 1; id < 3_000; id += 10) {
+            upsert(index, visible, id, randomJejuPoint(random), random.nextDouble() * 1_000);
+        }
+        Map<Long, Double> weights = new HashMap<>();
+        for (long id = 2; id < 3_000; id += 4) {
+            double w = random.nextDouble() * 2_000;
+            weights.put(id, w);
+            if (visible.containsKey(id)) visible.get(id)[2] = w;
+        }
+        index.updateWeights(weights);
+
+        long heaviest = heaviest(visible);
+        double meanLat = visible.values().stream().mapToDouble(v -> v[0]).average().orElseThrow();
+        double meanLng = visible.values().stream().mapToDouble(v -> v[1]).average().orElseThrow();
+
+        // when & then: 줌마다 클러스터 수 합 = 노출 스팟 수, 가중 평균 좌표 = 전체 평균, 가장 무거운 스팟은 어딘가의 대표
+        for (int zoom = SpotClusterIndex.MIN_ZOOM; zoom <= SpotClusterIndex.MAX_ZOOM; zoom++) {
+            List<SpotClusterIndex.Cluster> clusters = index.query(SW_LAT, SW_LNG, NE_LAT, NE_LNG, zoom);
+            int total = 0;
+            double sumLat = 0, sumLng = 0;
+            for (SpotClusterIndex.Cluster c : clusters) {
+                assertTrue(c.count() > 0, "zoom " + zoom);
+                assertTrue(visible.containsKey(c.representativeId()), "zoom " + zoom);
+                total += c.count();
+                sumLat += c.latitude() * c.count();
+                sumLng += c.longitude() * c.count();
+            }
+            assertEquals(visible.size(), total, "zoom " + zoom);
+            assertEquals(meanLat, sumLat / total, 1e-9, "zoom " + zoom);
+            assertEquals(meanLng, sumLng / total, 1e-9, "zoom " + zoom);
+            assertTrue(clusters.stream().anyMatch(c -> c.representativeId() == heaviest), "zoom " + zoom);
+        }
+    }
+
+    @Test
+    void updateWeights_shouldChangeRepresentative_whenLikesChangeWithoutMove() {
+        // given: 같은 격자에 있는 두 스팟 (대표는 좋아요가 많은 2번)
+        SpotClusterIndex index = new SpotClusterIndex();
+        index.upsert(1L, 33.45800, 126.94200, 3);
+        index.upsert(2L, 33.45801, 126.94201, 5);
+        assertEquals(2L, single(index, SpotClusterIndex.MAX_ZOOM).representativeId());
+
+        // when: 1번 좋아요가 늘고, 인덱스에 없는 스팟의 가중치는 무시됨
+        index.updateWeights(Map.of(1L, 10.0, 99L, 100.0));
+
+        // then: 모든 줌에서 대표가 1번으로, 위치/개수는 그대로
+        for (int zoom = SpotClusterIndex.MIN_ZOOM; zoom <= SpotClusterIndex.MAX_ZOOM; zoom++) {
+            SpotClusterIndex.Cluster c = single(index, zoom);
+            assertEquals(1L, c.representativeId(), "zoom " + zoom);
+            assertEquals(2, c.count(), "zoom " + zoom);
+        }
+    }
+
+    @Test
+    void remove_shouldDropEmptyClusters_whenLastSpotRemoved() {
+        // given
+        SpotClusterIndex index = new SpotClusterIndex();
+        index.upsert(1L, 33.45800, 126.94200, 1);
+
+        // when
+        index.remove(1L);
+        index.updateWeights(Map.of(1L, 10.0));
+
+        // then
+        for (int zoom = SpotClusterIndex.MIN_ZOOM; zoom <= SpotClusterIndex.MAX_ZOOM; zoom++) {
+            assertTrue(index.query(SW_LAT, SW_LNG, NE_LAT, NE_LNG, zoom).isEmpty(), "zoom " + zoom);
+        }
+    }
+
+    // ----- 테스트 데이터 -----
+    private static void upsert(SpotClusterIndex index, Map<Long, double[]> visible, long id, double[] p, double weight) {
+        index.upsert(id, p[0], p[1], weight);
+        visible.put(id, new double[]{p[0], p[1], weight});
+    }
+
+    private static double[] randomJejuPoint(Random random) {
+        return new double[]{33.1 + random.nextDouble() * 0.5, 126.1 + random.nextDouble() * 0.9};
+    }
+
+    private static long heaviest(Map<Long, double[]> visible) {
+        return visible.entrySet().stream()
+                .max((a, b) -> Double.compare(a.getValue()[2], b.getValue()[2]))
+                .orElseThrow()
+                .getKey();
+    }
+
+    private static SpotClusterIndex.Cluster single(SpotClusterIndex index, int zoom) {
+        List<SpotClusterIndex.Cluster> clusters = index.query(SW_LAT, SW_LNG, NE_LAT, NE_LNG, zoom);
+        assertEquals(1, clusters.size(), "zoom " + zoom);
+        return clusters.get(0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SpotGridIndexTest {
+
+    @Test
+    void withinRadius_shouldReturnEmpty_whenCoordinatesOutOfRange() {
+        // given
+        SpotGridIndex index = new SpotGridIndex();
+        index.upsert(1L, 33.45, 126.57);
+
+        // when & then: 행/열 번호가 int 범위를 넘는 좌표에서도 루프가 끝나야 함
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertTrue(index.withinRadius(1e12, 126.57, 5).isEmpty());
+            assertTrue(index.withinRadius(33.45, -1e12, 5).isEmpty());
+            assertTrue(index.withinRadius(Double.NaN, 126.57, 5).isEmpty());
+            assertTrue(index.withinRadius(33.45, Double.NaN, 5).isEmpty());
+            assertTrue(index.withinRadius(Double.POSITIVE_INFINITY, 126.57, 5).isEmpty());
+            assertTrue(index.withinRadius(90.5, 126.57, 5).isEmpty());
+        });
+        assertEquals(1, index.withinRadius(33.45, 126.57, 5).size());
+    }
+
+    @Test
+    void withinRadius_shouldReturnEmpty_whenRadiusNegativeOrNaN() {
+        // given
+        SpotGridIndex index = new SpotGridIndex();
+        index.upsert(1L, 33.45, 126.57);
+
+        // when & then
+        assertTrue(index.withinRadius(33.45, 126.57, -1).isEmpty());
+        assertTrue(index.withinRadius(33.45, 126.57, Double.NaN).isEmpty());
+    }
+
+    @Test
+    void nearest_shouldMatchBruteForce_whenQueriedAroundJeju() {
+        // given: 제주 범위 무작위 스팟, 일부는 삭제/이동
+        Random random = new Random(42L);
+        int n = 5_000;
+        double[][] coords = new double[n][];
+        SpotGridIndex index = new SpotGridIndex();
+        for (int i = 0; i < n; i++) {
+            coords[i] = randomJejuPoint(random);
+            index.upsert(i, coords[i][0], coords[i][1]);
+        }
+        for (int i = 0; i < n; i += 7) {
+            index.remove(i);
+            coords[i] = null;
+        }
+        for (int i = 1; i < n; i += 11) {
+            coords[i] = randomJejuPoint(random);
+            index.upsert(i, coords[i][0], coords[i][1]);
+        }
+
+        // when & then
+        for (int q = 0; q < 300; q++) {
+            double[] p = randomJejuPoint(random);
+            int k = 1 + random.nextInt(30);
+            double maxRadiusKm = q % 3 == 0 ? 2 + random.nextDouble() * 5 : 200;
+            List<Long> expected = bruteForceNearest(coords, p[0], p[1], k, maxRadiusKm);
+            assertEquals(expected, ids(index.nearest(p[0], p[1], k, maxRadiusKm)), "query " + q);
+        }
+    }
+
+    @Test
+    void nearest_shouldReturnAllWithinRadius_whenFewerThanK() {
+        // given
+        SpotGridIndex index = new SpotGridIndex();
+        index.upsert(1L, 33.4500, 126.5700);
+        index.upsert(2L, 33.4600, 126.5700);
+        index.upsert(3L, 33.9000, 126.5700); // 약 50km
+
+        // when & then
+        assertEquals(List.of(1L, 2L), ids(index.nearest(33.4500, 126.5700, 10, 5)));
+        assertEquals(List.of(1L, 2L, 3L), ids(index.nearest(33.4500, 126.5700, 10, 100)));
+        assertTrue(index.nearest(1e12, 126.57, 10, 100).isEmpty());
+        assertTrue(index.nearest(33.45, 126.57, 0, 100).isEmpty());
+    }
+
+    @Test
+    void withinRadius_shouldMatchBruteForce_whenQueriedAroundJeju() {
+        // given: 기본 격자와 잘게 나눈 격자 모두 같은 스팟 집합 (일부 삭제/이동)
+        Random random = new Random(7L);
+        int n = 5_000;
+        double[][] coords = new double[n][];
+        SpotGridIndex coarse = new SpotGridIndex();
+        SpotGridIndex fine = new SpotGridIndex(0.005);
+        for (int i = 0; i < n; i++) {
+            coords[i] = randomJejuPoint(random);
+            coarse.upsert(i, coords[i][0], coords[i][1]);
+            fine.upsert(i, coords[i][0], coords[i][1]);
+        }
+        for (int i = 0; i < n; i += 5) {
+            coarse.remove(i);
+            fine.remove(i);
+            coords[i] = null;
+        }
+        for (int i = 1; i < n; i += 9) {
+            coords[i] = randomJejuPoint(random);
+            coarse.upsert(i, coords[i][0], coords[i][1]);
+            fine.upsert(i, coords[i][0], coords[i][1]);
+        }
+
+        // when & then: 결과 집합과 거리순 정렬이 전수 비교와 같음
+        for (int q = 0; q < 300; q++) {
+            double[] p = randomJejuPoint(random);
+            double radiusKm = q % 10 == 0 ? 60 : random.nextDouble() * 10;
+            List<Long> expected = bruteForceWithinRadius(coords, p[0], p[1], radiusKm);
+            assertEquals(expected, ids(coarse.withinRadius(p[0], p[1], radiusKm)), "coarse query " + q);
+            assertEquals(expected, ids(fine.withinRadius(p[0], p[1], radiusKm)), "fine query " + q);
+        }
+    }
+
+    // ----- 테스트 데이터 -----
+    private static double[] randomJejuPoint(Random random) {
+        return new double[]{33.1 + random.nextDouble() * 0.5, 126.1 + random.nextDouble() * 0.9};
+    }
+
+    private static List<Long> bruteForceNearest(double[][] coords, double lat, double lng, int k, double maxRadiusKm) {
+        List<SpotGridIndex.Hit> all = new ArrayList<>();
+        for (int i = 0; i < coords.length; i++) {
+            if (coords[i] == null) continue;
+            double d = SpotGridIndex.haversineKm(lat, lng, coords[i][0], coords[i][1]);
+            if (d <= maxRadiusKm) all.add(new SpotGridIndex.Hit(i, d));
+        }
+        all.sort(Comparator.comparingDouble(SpotGridIndex.Hit::distanceKm));
+        return ids(all.size() > k ? all.subList(0, k) : all);
+    }
+
+    private static List<Long> bruteForceWithinRadius(double[][] coords, double lat, double lng, double radiusKm) {
+        return bruteForceNearest(coords, lat, lng, Integer.MAX_VALUE, radiusKm);
+    }
+
+    private static List<Long> ids(List<SpotGridIndex.Hit> hits) {
+        return hits.stream().map(SpotGridIndex.Hit::spotId).toList();
+    }
+}
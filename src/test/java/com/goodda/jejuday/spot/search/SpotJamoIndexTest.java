@@ -0,0 +1,173 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+class SpotJamoIndexTest {
+
+    private static final int UNBOUNDED = 1_000_000; // 전수 비교용 후보 상한
+
+    private static final String[] SYLLABLES = {
+            "성", "산", "일", "출", "봉", "한", "라", "우", "도", "카", "페", "해", "변", "오", "름", "제", "주", "닭", "곽", "a"
+    };
+
+    @Test
+    void topK_shouldMatch_whenQueryMixesChosungAndPartialSyllable() {
+        SpotJamoIndex index = newIndex(UNBOUNDED);
+        Map<Long, SpotSearchIndex.Entry> all = new HashMap<>();
+        all.put(1L, new SpotSearchIndex.Entry("성산일출봉", 10));
+        all.put(2L, new SpotSearchIndex.Entry("섭지코지", 5));
+        all.put(3L, new SpotSearchIndex.Entry("닭머르해안길", 7));
+        all.put(4L, new SpotSearchIndex.Entry("서귀포", 1));
+        index.load(all);
+
+        assertEquals(List.of(1L), ids(index.topK("ㅅㅅㅇ", 10)));
+        assertEquals(List.of(1L, 2L, 4L), ids(index.topK("ㅅ", 10)));
+        assertEquals(List.of(1L), ids(index.topK("성ㅅ", 10)));
+        assertEquals(List.of(1L), ids(index.topK("ㅅ산", 10)));
+        assertEquals(List.of(1L), ids(index.topK("성사", 10)));  // 산 입력 중
+        assertEquals(List.of(1L, 2L, 4L), ids(index.topK("서", 10))); // 성/섭 입력 중
+        assertEquals(List.of(3L), ids(index.topK("달", 10)));   // 겹받침 닭 입력 중
+        assertTrue(index.topK("성산이출", 10).isEmpty());
+        assertEquals(1L, index.match(1L, "ㅅ산").spotId());
+        assertEquals(null, index.match(2L, "성"));
+        assertEquals(null, index.match(99L, "ㅅ"));
+
+        index.upsert(5L, "성판악", 20);
+        index.remove(1L);
+        assertEquals(List.of(5L), ids(index.topK("ㅅㅍ", 10)));
+        assertTrue(index.topK("ㅅㅅ", 10).isEmpty());
+    }
+
+    @Test
+    void topK_shouldMatchBruteForce_whenRandomQueries() {
+        Data data = randomData(5_000, 7L);
+        SpotJamoIndex index = newIndex(UNBOUNDED);
+        index.load(data.entries());
+
+        Random random = new Random(11L);
+        for (int q = 0; q < 500; q++) {
+            String query = randomQuery(data.names[random.nextInt(data.names.length)], random);
+            List<Long> expected = data.bruteForce(query, CompactSpotTrie.DEFAULT_TOP_K);
+            assertEquals(expected, ids(index.topK(query, CompactSpotTrie.DEFAULT_TOP_K)), query);
+        }
+    }
+
+    /**
+     * 10만 건 기준 초성/혼합 검색 지연 (기본 test 에서 제외, ./gradlew benchmark 로 실행).
+     * 쿼리별 시간의 p50/p99 를 로그로 남기고, 두 모양 모두 p99 가 1ms 안이어야 한다.
+     */
+    @Test
+    @Tag("benchmark")
+    void topK_shouldAnswerWithinMicroseconds_when100kNames() {
+        Data data = randomData(100_000, 1L);
+        SpotJamoIndex index = newIndex(SpotJamoIndex.DEFAULT_CANDIDATE_CAP);
+        index.load(data.entries());
+
+        Random random = new Random(3L);
+        String[] chosung = new String[20_000];
+        String[] mixed = new String[20_000];
+        for (int i = 0; i < chosung.length; i++) {
+            String name = data.names[random.nextInt(data.names.length)];
+            String prefix = name.substring(0, Math.min(name.length(), 1 + random.nextInt(4)));
+            chosung[i] = HangulJamo.chosungKey(prefix);
+            mixed[i] = randomQuery(name, random);
+        }
+
+        long[] chosungNanos = new long[chosung.length];
+        long[] mixedNanos = new long[mixed.length];
+        long sink = 0;
+        for (int round = 0; round < 2; round++) { // 첫 라운드는 워밍업, 두 번째 라운드만 기록
+            for (int i = 0; i < chosung.length; i++) {
+                long t0 = System.nanoTime();
+                sink += index.topK(chosung[i], CompactSpotTrie.DEFAULT_TOP_K).size();
+                long t1 = System.nanoTime();
+                sink += index.topK(mixed[i], CompactSpotTrie.DEFAULT_TOP_K).size();
+                long t2 = System.nanoTime();
+                chosungNanos[i] = t1 - t0;
+                mixedNanos[i] = t2 - t1;
+            }
+        }
+
+        System.out.printf("[jamo benchmark] spots=%d, sink=%d%n", index.size(), sink);
+        System.out.printf("  chosung p50 %.1f us / p99 %.1f us, mixed p50 %.1f us / p99 %.1f us%n",
+                percentile(chosungNanos, 50) / 1e3, percentile(chosungNanos, 99) / 1e3,
+                percentile(mixedNanos, 50) / 1e3, percentile(mixedNanos, 99) / 1e3);
+
+        assertTrue(percentile(chosungNanos, 99) < 1_000_000, "chosung p99 should be under 1ms");
+        assertTrue(percentile(mixedNanos, 99) < 1_000_000, "mixed p99 should be under 1ms");
+    }
+
+    // ----- 테스트 데이터 -----
+    private static SpotJamoIndex newIndex(int candidateCap) {
+        return new SpotJamoIndex(CompactSpotTrie.DEFAULT_TOP_K, 512, Runnable::run, candidateCap);
+    }
+
+    private static long percentile(long[] values, int p) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)];
+    }
+
+    private static List<Long> ids(List<CompactSpotTrie.Hit> hits) {
+        return hits.stream().map(CompactSpotTrie.Hit::spotId).toList();
+    }
+
+    // 이름 prefix 의 일부 음절을 초성으로 바꾸고, 마지막 음절은 받침을 뗀 입력 중 상태로 만들기도 함
+    private static String randomQuery(String name, Random random) {
+        String prefix = name.substring(0, 1 + random.nextInt(Math.min(name.length(), 4)));
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            sb.append(random.nextInt(3) == 0 ? HangulJamo.chosung(c) : c);
+        }
+        char last = sb.charAt(sb.length() - 1);
+        if (HangulJamo.isSyllable(last) && (last - '가') % 28 != 0 && random.nextBoolean()) {
+            sb.setCharAt(sb.length() - 1, (char) (last - (last - '가') % 28));
+        }
+        return sb.toString();
+    }
+
+    private record Data(String[] names, double[] popularity) {
+
+        Map<Long, SpotSearchIndex.Entry> entries() {
+            Map<Long, SpotSearchIndex.Entry> all = new HashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) all.put((long) i, new SpotSearchIndex.Entry(names[i], popularity[i]));
+            return all;
+        }
+
+        List<Long> bruteForce(String query, int k) {
+            List<Long> matched = new ArrayList<>();
+            for (int i = 0; i < names.length; i++) {
+                if (HangulJamo.matchesPrefix(names[i], query)) matched.add((long) i);
+            }
+            matched.sort(Comparator.<Long>comparingDouble(id -> -popularity[(int) (long) id])
+                    .thenComparingLong(Long::longValue));
+            return matched.size() > k ? matched.subList(0, k) : matched;
+        }
+    }
+
+    private static Data randomData(int n, long seed) {
+        Random random = new Random(seed);
+        String[] names = new String[n];
+        double[] popularity = new double[n];
+        for (int i = 0; i < n; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 2 + random.nextInt(8);
+            for (int j = 0; j < len; j++) sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            names[i] = sb.toString();
+            popularity[i] = random.nextInt(1000);
+        }
+        return new Data(names, popularity);
+    }
+}
@@ -0,0 +1,128 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class SpotTagIndexTest {
+
+    private static final String[] TAGS = {"오름", "카페", "바다", "일출", "맛집", "Jeju", "산책"};
+
+    @Test
+    void key_shouldStripHashAndCase_whenTagTypedWithHash() {
+        assertEquals("jeju", SpotTagIndex.key("#Jeju"));
+        assertEquals("jeju", SpotTagIndex.key("  # jeju "));
+        assertEquals("jeju", SpotTagIndex.key("##JEJU"));
+        assertEquals(SpotTagIndex.key("#오름"), SpotTagIndex.key(SpotTagIndex.key("#오름")));
+        assertEquals("", SpotTagIndex.key("#"));
+        assertEquals("", SpotTagIndex.key(null));
+        assertNull(SpotTagIndex.normalize(" # "));
+        assertEquals(50, SpotTagIndex.normalize("#" + "가".repeat(60)).length());
+    }
+
+    @Test
+    void upsert_shouldGroupHashAndPlainTags_whenSameTagWrittenDifferently() {
+        // given
+        SpotTagIndex index = new SpotTagIndex();
+
+        // when
+        index.upsert(1L, List.of("#오름", "카페"));
+        index.upsert(2L, List.of("오름", "#카페", "# 바다"));
+
+        // then: '#' 유무와 관계없이 같은 태그로 집계되고 표기에는 '#' 이 남지 않음
+        assertEquals(2, index.count("오름"));
+        assertEquals(2, index.count("#오름"));
+        assertEquals(List.of(new SpotTagIndex.TagCount("카페", 2), new SpotTagIndex.TagCount("바다", 1)),
+                index.related("#오름", 10));
+        assertEquals(List.of(new SpotTagIndex.TagCount("오름", 2)), index.suggest("#오", 10));
+        assertArrayEquals(new long[]{2L, 1L}, index.spotIds("#카페", Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void upsert_shouldReplaceCountsAndRelated_whenTagsChangeOrSpotRemoved() {
+        // given
+        SpotTagIndex index = new SpotTagIndex();
+        index.upsert(1L, List.of("오름", "카페"));
+        index.upsert(2L, List.of("오름", "카페"));
+
+        // when: 1번 태그 교체, 2번 삭제
+        index.upsert(1L, List.of("오름", "바다"));
+        index.remove(2L);
+
+        // then
+        assertEquals(1, index.count("오름"));
+        assertEquals(0, index.count("카페"));
+        assertEquals(List.of(new SpotTagIndex.TagCount("바다", 1)), index.related("오름", 10));
+        assertTrue(index.related("카페", 10).isEmpty());
+        assertTrue(index.suggest("카", 10).isEmpty());
+    }
+
+    @Test
+    void index_shouldMatchRecomputedCounts_whenRandomUpsertsAndRemoves() {
+        // given
+        Random random = new Random(11L);
+        SpotTagIndex index = new SpotTagIndex();
+        Map<Long, Set<String>> model = new HashMap<>(); // 스팟 id → 태그 키
+
+        // when: 무작위 교체/삭제 ('#', 대소문자, 공백 섞어서)
+        for (int op = 0; op < 5_000; op++) {
+            long spotId = random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                index.remove(spotId);
+                model.remove(spotId);
+                continue;
+            }
+            List<String> raw = new ArrayList<>();
+            Set<String> keys = new LinkedHashSet<>();
+            int n = random.nextInt(4);
+            for (int i = 0; i < n; i++) {
+                String tag = TAGS[random.nextInt(TAGS.length)];
+                String written = switch (random.nextInt(4)) {
+                    case 0 -> "#" + tag;
+                    case 1 -> " " + tag.toUpperCase() + " ";
+                    case 2 -> "# " + tag;
+                    default -> tag;
+                };
+                raw.add(written);
+                keys.add(SpotTagIndex.key(tag));
+            }
+            index.upsert(spotId, raw);
+            if (keys.isEmpty()) model.remove(spotId);
+            else model.put(spotId, keys);
+        }
+
+        // then: 태그별 스팟 수, 연관 태그 수, 스팟 목록이 모델에서 다시 계산한 값과 같음
+        for (String tag : TAGS) {
+            String k = SpotTagIndex.key(tag);
+            TreeSet<Long> expectedIds = new TreeSet<>();
+            Map<String, Integer> expectedRelated = new HashMap<>();
+            model.forEach((id, keys) -> {
+                if (!keys.contains(k)) return;
+                expectedIds.add(id);
+                for (String other : keys) {
+                    if (!other.equals(k)) expectedRelated.merge(other, 1, Integer::sum);
+                }
+            });
+
+            assertEquals(expectedIds.size(), index.count("#" + tag), tag);
+            assertArrayEquals(expectedIds.descendingSet().stream().mapToLong(Long::longValue).toArray(),
+                    index.spotIds(tag, Long.MAX_VALUE, Integer.MAX_VALUE), tag);
+            Map<String, Integer> actualRelated = new HashMap<>();
+            for (SpotTagIndex.TagCount c : index.related(tag, TAGS.length)) {
+                actualRelated.put(SpotTagIndex.key(c.tag()), c.count());
+            }
+            assertEquals(expectedRelated, actualRelated, tag);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.goodda.jejuday.spot.search;
 
 import java.util.*;
 
+// 기존 HashMap/HashSet 트라이. CompactSpotTrie 로 대체되어 테스트의 비교 기준(결과 검증/벤치마크)으로만 남김
 public class SpotTrie {
     private final TrieNode root = new TrieNode();
 
@@ -0,0 +1,114 @@
+package com.goodda.jejuday.spot.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrendingKeywordTrackerTest {
+
+    private static final long HOUR = 3_600_000L;
+    // 시간 경계에 맞춘 고정 시각 (버킷 epoch = T0 / HOUR)
+    private static final long T0 = 472_222L * HOUR;
+    private static final int BUCKETS = 24;
+
+    @Test
+    void top_shouldKeepHeavyHitters_whenLongTailExceedsCapacity() {
+        // given: 후보 10칸에 인기 검색어 5개 + 한 번씩만 나오는 검색어 3만 개를 섞어서
+        // 인기 검색어는 처음 들어올 때 최소값(1)이라 이후 증가할 때마다 minCount 재계산이 미뤄짐 (minStale)
+        TrendingKeywordTracker tracker = new TrendingKeywordTracker(BUCKETS, HOUR, 10);
+        String[] heavy = {"성산일출봉", "우도", "한라산", "협재", "카페"};
+        int[] hits = {300, 250, 200, 150, 100};
+        int tail = 0;
+        for (int round = 0; round < 300; round++) {
+            for (int i = 0; i < heavy.length; i++) {
+                if (round < hits[i]) tracker.record(heavy[i], T0 + round);
+            }
+            for (int j = 0; j < 100; j++) tracker.record("tail-" + tail++, T0 + round);
+        }
+
+        // when
+        List<TrendingKeywordTracker.Trending> top = tracker.top(5, 0, 1.0, T0 + HOUR / 2);
+
+        // then: 순서대로 살아남고, 점수는 실제 횟수 이상(sketch 과대 추정)이되 크게 벗어나지 않음
+        assertEquals(List.of(heavy), keywords(top));
+        for (int i = 0; i < heavy.length; i++) {
+            double score = top.get(i).score();
+            assertTrue(score >= hits[i] && score <= hits[i] + 10, heavy[i] + " " + score);
+        }
+        // 후보 맵은 capacity 를 넘지 않음 (윈도우 0 이면 top 의 후보 = 현재 버킷 후보)
+        assertTrue(tracker.top(Integer.MAX_VALUE, 0, 1.0, T0 + HOUR / 2).size() <= 10);
+    }
+
+    @Test
+    void record_shouldRecomputeMinimum_whenAllMinimumCandidatesGrew() {
+        // given: 후보 2칸이 1회씩으로 찬 뒤 둘 다 2회가 됨 (minCount 1 은 낡은 값)
+        TrendingKeywordTracker tracker = new TrendingKeywordTracker(BUCKETS, HOUR, 2);
+        for (String keyword : List.of("우도", "협재", "우도", "협재")) tracker.record(keyword, T0);
+
+        // when: 새 검색어가 2회 → 실제 최소(2)를 넘지 못하므로 들어오지 못함
+        tracker.record("한라산", T0);
+        tracker.record("한라산", T0);
+
+        // then
+        assertEquals(List.of("우도", "협재"), keywords(tracker.top(10, 0, 1.0, T0)));
+
+        // when: 3회째에는 최소 후보를 밀어냄
+        tracker.record("한라산", T0);
+
+        // then
+        List<String> top = keywords(tracker.top(10, 0, 1.0, T0));
+        assertEquals(2, top.size());
+        assertEquals("한라산", top.get(0));
+    }
+
+    @Test
+    void top_shouldIgnoreReusedBucket_whenBucketCountHoursPass() {
+        // given: 0시에 5회
+        TrendingKeywordTracker tracker = new TrendingKeywordTracker(BUCKETS, HOUR, 10);
+        for (int i = 0; i < 5; i++) tracker.record("우도", T0);
+
+        // then: 23시간 뒤까지는 윈도우 안, 24시간 뒤에는 같은 자리 버킷이 이전 바퀴 값이라 무시
+        assertEquals(List.of(new TrendingKeywordTracker.Trending("우도", 5)),
+                tracker.top(10, BUCKETS - 1, 1.0, T0 + (BUCKETS - 1) * HOUR));
+        assertTrue(tracker.top(10, 0, 1.0, T0 + BUCKETS * HOUR).isEmpty());
+        assertTrue(tracker.top(10, BUCKETS - 1, 1.0, T0 + BUCKETS * HOUR).isEmpty());
+
+        // when: 24시간 뒤 같은 버킷에 다시 기록
+        tracker.record("우도", T0 + BUCKETS * HOUR);
+        tracker.record("한라산", T0 + BUCKETS * HOUR);
+
+        // then: 이전 바퀴 카운트는 초기화되어 새로 센 값만
+        assertEquals(List.of(new TrendingKeywordTracker.Trending("우도", 1), new TrendingKeywordTracker.Trending("한라산", 1)),
+                tracker.top(10, 0, 1.0, T0 + BUCKETS * HOUR));
+    }
+
+    @Test
+    void top_shouldWeightOldestBucketByRemainingFraction_whenCurrentBucketPartlyElapsed() {
+        // given: 0시 버킷에 "우도" 10회, 1시 버킷에 "한라산" 4회
+        TrendingKeywordTracker tracker = new TrendingKeywordTracker(BUCKETS, HOUR, 10);
+        for (int i = 0; i < 10; i++) tracker.record("우도", T0 + i);
+        for (int i = 0; i < 4; i++) tracker.record("한라산", T0 + HOUR + i);
+
+        // when & then: 1시 15분에는 가장 오래된 버킷을 75% 만 반영
+        assertEquals(List.of(new TrendingKeywordTracker.Trending("우도", 7.5), new TrendingKeywordTracker.Trending("한라산", 4)),
+                tracker.top(10, 1, 1.0, T0 + HOUR + HOUR / 4));
+        // 감쇠와 같이 적용: 10 * 0.5 * 0.75
+        assertEquals(3.75, score(tracker.top(10, 1, 0.5, T0 + HOUR + HOUR / 4), "우도"), 1e-9);
+        // 1시 45분에는 25% 만 반영되어 순위가 바뀜
+        assertEquals(List.of(new TrendingKeywordTracker.Trending("한라산", 4), new TrendingKeywordTracker.Trending("우도", 2.5)),
+                tracker.top(10, 1, 1.0, T0 + HOUR + 3 * HOUR / 4));
+        // 윈도우가 0 이면 현재 버킷만 (부분 반영 없음)
+        assertEquals(List.of(new TrendingKeywordTracker.Trending("한라산", 4)),
+                tracker.top(10, 0, 1.0, T0 + HOUR + HOUR / 4));
+    }
+
+    private static List<String> keywords(List<TrendingKeywordTracker.Trending> top) {
+        return top.stream().map(TrendingKeywordTracker.Trending::keyword).toList();
+    }
+
+    private static double score(List<TrendingKeywordTracker.Trending> top, String keyword) {
+        return top.stream().filter(t -> t.keyword().equals(keyword)).findFirst().orElseThrow().score();
+    }
+}
@@ -0,0 +1,64 @@
+package com.goodda.jejuday.spot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotEngagementEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 카운터 일괄 반영과 엔티티 저장이 같은 행을 건드릴 때의 DB 값 검증 (내장 H2).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class SpotCounterPersistenceTest {
+
+    private static final long SPOT_ID = 1L;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SpotCounterService counter;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자 행 없이 스팟만 넣기 위해 FK 검사 해제
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        jdbcTemplate.update("INSERT INTO spot (id, type, name, latitude, longitude, user_id, "
+                + "view_count, like_count, reply_count, is_deleted, is_user_created) "
+                + "VALUES (?, 'POST', '성산일출봉', 33.458, 126.942, 1, 0, 0, 0, false, true)", SPOT_ID);
+        counter = new SpotCounterService(jdbcTemplate);
+    }
+
+    /** 두 번의 반영 사이에 (반영 전에 읽은) 엔티티를 저장해도 반영된 증감분이 유지된다. */
+    @Test
+    void flush_shouldNotBeOverwritten_whenStaleEntitySavedBetweenFlushes() {
+        Spot spot = spotRepository.findById(SPOT_ID).orElseThrow(); // like_count = 0, view_count = 0 스냅샷
+
+        engage(3, 5);
+        counter.flush();
+
+        spot.setName("성산일출봉 (수정)");
+        spotRepository.saveAndFlush(spot);
+
+        engage(2, 1);
+        counter.flush();
+
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT like_count FROM spot WHERE id = ?", Integer.class, SPOT_ID));
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT view_count FROM spot WHERE id = ?", Integer.class, SPOT_ID));
+        assertEquals("성산일출봉 (수정)",
+                jdbcTemplate.queryForObject("SELECT name FROM spot WHERE id = ?", String.class, SPOT_ID));
+    }
+
+    private void engage(int likes, int views) {
+        for (int i = 0; i < likes; i++) counter.onEngagement(SpotEngagementEvent.liked(SPOT_ID));
+        for (int i = 0; i < views; i++) counter.onEngagement(SpotEngagementEvent.viewed(SPOT_ID));
+    }
+}
@@ -0,0 +1,180 @@
+package com.goodda.jejuday.spot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotEngagementEvent;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+class SpotCounterServiceTest {
+
+    private static final long HOT_SPOT = 1L;
+
+    /** 한 스팟에 좋아요가 몰리는 중에 주기 반영이 겹쳐도 증감분이 유실/중복되지 않는다. */
+    @Test
+    void flush_shouldKeepTotals_whenHotSpotLikedConcurrentlyDuringFlush() throws Exception {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        SpotCounterService counter = new SpotCounterService(jdbc);
+
+        int threads = 8, likesPerThread = 50_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            Future<?> flusher = pool.submit(() -> {
+                while (running.get()) counter.flush();
+                return null;
+            });
+            Future<?>[] writers = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                writers[t] = pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < likesPerThread; i++) {
+                        counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT));
+                        if (i % 10 == 0) counter.onEngagement(SpotEngagementEvent.unliked(HOT_SPOT));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> w : writers) w.get();
+            running.set(false);
+            flusher.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long expected = (long) threads * (likesPerThread - likesPerThread / 10);
+        assertEquals(expected, jdbc.flushedLikes.sum() + counter.pendingLikeDelta(HOT_SPOT));
+        counter.flush();
+        assertEquals(expected, jdbc.flushedLikes.sum());
+        assertEquals(0, counter.pendingLikeDelta(HOT_SPOT));
+
+        Spot spot = new Spot();
+        spot.setId(HOT_SPOT);
+        spot.setLikeCount(7);
+        assertEquals(7, counter.likeCount(spot));
+    }
+
+    /**
+     * 상세 응답용 DB 값을 읽는 사이 반영이 끼어도 반영 전 값이 캐시에 남지 않는다.
+     * (엔티티 저장이 반영분을 덮어쓰지 않는지는 SpotCounterPersistenceTest 에서 실제 DB 로 확인)
+     */
+    @Test
+    void likeCount_shouldNotCacheStaleDbValue_whenFlushInterleavesWithRead() {
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        SpotCounterService counter = new SpotCounterService(jdbc);
+        jdbc.storedLikes = 5;
+        counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT));
+        counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT));
+
+        // 5 를 읽은 직후 다른 스레드의 반영으로 DB 가 7 이 됨
+        jdbc.afterRead = counter::flush;
+        counter.likeCount(HOT_SPOT);
+        jdbc.afterRead = null;
+        assertEquals(7, jdbc.storedLikes);
+        assertEquals(7, counter.likeCount(HOT_SPOT));
+
+        counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT));
+        assertEquals(8, counter.likeCount(HOT_SPOT));
+        counter.flush();
+        assertEquals(8, counter.likeCount(HOT_SPOT));
+    }
+
+    /**
+     * 한 스팟에 좋아요가 몰릴 때 스레드 수별 처리량 (기본 test 에서 제외, ./gradlew benchmark 로 실행).
+     * 단일 행 갱신을 흉내 낸 AtomicLong 하나(CAS 경합)와 스팟별 LongAdder 카운터를 비교해 로그로 남기고,
+     * 코어가 4개 이상이면 가장 많은 스레드에서 LongAdder 쪽 처리량이 더 높아야 한다.
+     */
+    @Test
+    @Tag("benchmark")
+    void onEngagement_shouldOutscaleSingleCounter_whenManyThreadsLikeOneSpot() throws Exception {
+        int opsPerThread = 2_000_000;
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int maxThreads = Math.max(2, Math.min(8, cpus));
+
+        System.out.printf("[like counter benchmark] cpus=%d, ops/thread=%,d%n", cpus, opsPerThread);
+        double singleOpsPerSec = 0, shardedOpsPerSec = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            AtomicLong single = new AtomicLong();
+            SpotCounterService counter = new SpotCounterService(new RecordingJdbcTemplate());
+
+            // 첫 실행은 워밍업
+            run(threads, opsPerThread / 4, single::incrementAndGet);
+            long singleNanos = run(threads, opsPerThread, single::incrementAndGet);
+            run(threads, opsPerThread / 4, () -> counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT)));
+            long shardedNanos = run(threads, opsPerThread, () -> counter.onEngagement(SpotEngagementEvent.liked(HOT_SPOT)));
+
+            long ops = (long) threads * opsPerThread;
+            singleOpsPerSec = ops / (singleNanos / 1e9);
+            shardedOpsPerSec = ops / (shardedNanos / 1e9);
+            System.out.printf("  threads=%d  single-row %,.0f ops/s, sharded %,.0f ops/s%n",
+                    threads, singleOpsPerSec, shardedOpsPerSec);
+            assertEquals(ops + (long) threads * (opsPerThread / 4), counter.pendingLikeDelta(HOT_SPOT));
+        }
+        if (cpus >= 4) {
+            assertTrue(shardedOpsPerSec > singleOpsPerSec,
+                    String.format("sharded %,.0f ops/s <= single-row %,.0f ops/s", shardedOpsPerSec, singleOpsPerSec));
+        }
+    }
+
+    private static long run(int threads, int opsPerThread, Runnable op) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = pool.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    for (int i = 0; i < opsPerThread; i++) op.run();
+                    return null;
+                });
+            }
+            ready.await();
+            long t0 = System.nanoTime();
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+            return System.nanoTime() - t0;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 반영 UPDATE 의 좋아요 증감분을 모으고, 한 스팟의 like_count 를 흉내 내는 JdbcTemplate */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        final LongAdder flushedLikes = new LongAdder();
+        volatile long storedLikes;
+        Runnable afterRead;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            for (Object[] args : batchArgs) {
+                flushedLikes.add((Long) args[0]);
+                storedLikes += (Long) args[0];
+            }
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T query(String sql, ResultSetExtractor<T> rse, Object... args) {
+            Integer value = (int) storedLikes;
+            if (afterRead != null) afterRead.run();
+            return (T) value;
+        }
+    }
+}
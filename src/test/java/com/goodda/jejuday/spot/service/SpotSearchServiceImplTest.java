@@ -0,0 +1,96 @@
+package com.goodda.jejuday.spot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.goodda.jejuday.spot.entity.Spot;
+import com.goodda.jejuday.spot.event.SpotChangedEvent;
+import com.goodda.jejuday.spot.repository.SpotRepository;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SpotSearchServiceImplTest {
+
+    private SpotRepository spotRepository;
+    private SpotSearchServiceImpl searchService;
+    private final Map<Long, Spot> spots = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        spotRepository = mock(SpotRepository.class);
+        searchService = new SpotSearchServiceImpl(spotRepository, mock(SpotTextSearchService.class),
+                mock(SpotGeoIndexService.class), 512, 20_000, 5);
+        when(spotRepository.findAllById(anyIterable())).thenAnswer(inv -> {
+            List<Spot> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) inv.getArgument(0)) {
+                if (spots.containsKey(id)) found.add(spots.get(id));
+            }
+            return found;
+        });
+    }
+
+    @Test
+    void initTrie_shouldKeepChanges_whenSpotsChangeDuringReload() {
+        // given: DB 를 읽는 사이 3번 생성, 2번 삭제가 커밋됨 (읽은 행에는 반영되지 않음)
+        Spot seongsan = spot(1L, "성산일출봉");
+        Spot seopji = spot(2L, "섭지코지");
+        Spot seongpanak = spot(3L, "성판악");
+        when(spotRepository.findSearchRowsByTypeIn(any())).thenAnswer(inv -> {
+            searchService.onSpotChanged(SpotChangedEvent.created(seongpanak));
+            seopji.setIsDeleted(true);
+            searchService.onSpotChanged(SpotChangedEvent.deleted(seopji));
+            return List.of(row(seongsan), new Object[]{2L, "섭지코지", 0, 0});
+        });
+
+        // when
+        searchService.initTrie();
+
+        // then
+        assertEquals(List.of(1L, 3L), ids(searchService.searchMapSpotsByTrie("성")));
+        assertEquals(List.of(), ids(searchService.searchMapSpotsByTrie("섭")));
+    }
+
+    @Test
+    void onSpotChanged_shouldApplyImmediately_whenNotReloading() {
+        // given
+        Spot seongsan = spot(1L, "성산일출봉");
+        when(spotRepository.findSearchRowsByTypeIn(any())).thenReturn(List.<Object[]>of(row(seongsan)));
+        searchService.initTrie();
+
+        // when
+        seongsan.setName("우도");
+        searchService.onSpotChanged(SpotChangedEvent.updated(seongsan));
+
+        // then
+        assertEquals(List.of(), ids(searchService.searchMapSpotsByTrie("성")));
+        assertEquals(List.of(1L), ids(searchService.searchMapSpotsByTrie("우")));
+    }
+
+    // ----- 테스트 데이터 -----
+    private Spot spot(long id, String name) {
+        Spot s = new Spot();
+        s.setId(id);
+        s.setName(name);
+        s.setType(Spot.SpotType.SPOT);
+        s.setLatitude(new BigDecimal("33.458"));
+        s.setLongitude(new BigDecimal("126.942"));
+        spots.put(id, s);
+        return s;
+    }
+
+    private static Object[] row(Spot s) {
+        return new Object[]{s.getId(), s.getName(), s.getLikeCount(), s.getViewCount()};
+    }
+
+    private static List<Long> ids(List<Spot> found) {
+        return found.stream().map(Spot::getId).toList();
+    }
+}